@@ -0,0 +1,46 @@
+package io.kestra.plugin.redis.cli;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shell-style tokenization of the commands run by {@link RedisCLI}, also applied to every line piped from a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizeBenchmark {
+    @Param({"plain", "quoted", "long"})
+    private String shape;
+
+    private String command;
+
+    @Setup
+    public void setUp() {
+        command = switch (shape) {
+            case "plain" -> "SET user:1000:name kestra";
+            case "quoted" -> "SET 'user:1000:profile' \"{\\\"name\\\": \\\"kestra\\\", \\\"tags\\\": [\\\"a b\\\", \\\"c\\\"]}\" EX 60";
+            default -> "RPUSH queue " + "'item with spaces' ".repeat(200);
+        };
+    }
+
+    @Benchmark
+    public List<String> tokenize() {
+        return RedisCLI.tokenize(command);
+    }
+}
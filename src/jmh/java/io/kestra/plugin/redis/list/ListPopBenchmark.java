@@ -0,0 +1,129 @@
+package io.kestra.plugin.redis.list;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.EmbeddedRedisServer;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.Environment;
+import reactor.core.publisher.Flux;
+
+/**
+ * The {@link ListPop} hot path: {@link ListPop#pop} popping values by `count` ahead of the writer, deserializing them
+ * and writing them as ION to the internal storage, against an in-JVM {@link EmbeddedRedisServer}. The connection is
+ * opened once, outside of the measurement. Scores are in records per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ListPopBenchmark.RECORDS)
+public class ListPopBenchmark {
+    static final int RECORDS = 10_000;
+    private static final String KEY = "benchmark:list";
+
+    @Param({"1", "100", "1000"})
+    private int count;
+
+    @Param({"STRING", "JSON"})
+    private SerdeType format;
+
+    private String[] values;
+    private List<Object> records;
+    private EmbeddedRedisServer server;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private ApplicationContext applicationContext;
+    private RunContext runContext;
+    private ListPop task;
+    private AbstractRedisConnection.RedisFactory factory;
+
+    @Setup
+    public void setUp() throws Exception {
+        values = new String[RECORDS];
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            Map<String, Object> record = Map.of("id", i, "name", "value-" + i);
+            values[i] = format.serialize(record);
+            records.add(record);
+        }
+
+        server = new EmbeddedRedisServer();
+        client = RedisClient.create(server.url());
+        connection = client.connect();
+
+        applicationContext = ApplicationContext.run(Environment.TEST);
+        runContext = applicationContext.getBean(RunContextFactory.class).of(Map.of());
+
+        task = ListPop.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue(KEY))
+            .count(Property.ofValue(count))
+            .serdeType(Property.ofValue(format))
+            .maxRecords(Property.ofValue(RECORDS))
+            .build();
+        factory = task.redisFactory(runContext);
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        connection.sync().del(KEY);
+        connection.sync().rpush(KEY, values);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        factory.close();
+        applicationContext.close();
+        connection.close();
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public int pop() throws Exception {
+        try (RotatingIonWriter writer = new RotatingIonWriter(runContext, null, null)) {
+            int total = task.pop(runContext, factory, List.of(KEY), writer);
+            writer.finish();
+
+            return total;
+        }
+    }
+
+    @Benchmark
+    public Long writeIon() throws IOException {
+        try (OutputStream output = OutputStream.nullOutputStream()) {
+            return FileSerde.writeAll(output, Flux.fromIterable(records)).block();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.kestra.plugin.redis.list;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.EmbeddedRedisServer;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.Environment;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+/**
+ * The {@link ListPush} hot path: {@link ListPush#buildFlowable} serializing the rows, buffering them in batches and
+ * sending each batch as one pipelined, variadic RPUSH, against an in-JVM {@link EmbeddedRedisServer} so that only the
+ * client side is measured. The connection is opened once, outside of the measurement. Scores are in records per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(ListPushBenchmark.RECORDS)
+public class ListPushBenchmark {
+    static final int RECORDS = 10_000;
+    private static final String KEY = "benchmark:list";
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    @Param({"1", "16"})
+    private int concurrency;
+
+    private List<Object> rows;
+    private EmbeddedRedisServer server;
+    private ApplicationContext applicationContext;
+    private RunContext runContext;
+    private ListPush task;
+    private AbstractRedisConnection.RedisFactory factory;
+
+    @Setup
+    public void setUp() throws Exception {
+        rows = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            rows.add("value-" + i);
+        }
+
+        server = new EmbeddedRedisServer();
+        applicationContext = ApplicationContext.run(Environment.TEST);
+        runContext = applicationContext.getBean(RunContextFactory.class).of(Map.of());
+
+        task = ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue(KEY))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .batchSize(Property.ofValue(batchSize))
+            .concurrency(Property.ofValue(concurrency))
+            .from(List.of())
+            .build();
+        factory = task.redisFactory(runContext);
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        server.flushAll();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        factory.close();
+        applicationContext.close();
+        server.close();
+    }
+
+    @Benchmark
+    public Long buffer() {
+        return Flux.fromIterable(rows)
+            .map(throwFunction(SerdeType.STRING::serialize))
+            .buffer(batchSize)
+            .count()
+            .block();
+    }
+
+    @Benchmark
+    public Integer push() throws Exception {
+        return task.buildFlowable(Flux.fromIterable(rows), runContext, factory)
+            .reduce(Integer::sum)
+            .block();
+    }
+}
@@ -0,0 +1,60 @@
+package io.kestra.plugin.redis.models;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of the values written to and read from Redis, per format and payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerdeTypeBenchmark {
+    @Param({"STRING", "JSON"})
+    private SerdeType format;
+
+    // approximate size of the serialized payload in bytes
+    @Param({"64", "1024", "16384"})
+    private int payloadSize;
+
+    private Map<String, Object> value;
+    private String payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        value = new LinkedHashMap<>();
+        int fields = Math.max(1, payloadSize / 32);
+        for (int i = 0; i < fields; i++) {
+            value.put("field" + i, "value-" + "x".repeat(16) + i);
+        }
+
+        payload = format.serialize(value);
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return format.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return format.deserialize(payload);
+    }
+}
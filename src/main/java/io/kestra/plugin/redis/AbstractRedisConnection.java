@@ -1,14 +1,43 @@
 package io.kestra.plugin.redis;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.models.ReadFromType;
 
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.masterreplica.MasterReplica;
+import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -22,6 +51,11 @@ public abstract class AbstractRedisConnection extends Task implements RedisConne
     @PluginProperty(group = "main", secret = true)
     private Property<String> url;
 
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    private static final Duration REPLICATION_POLL_INTERVAL = Duration.ofMillis(10);
+
     public RedisFactory redisFactory(RunContext runContext) throws Exception {
         RedisFactory factory = new RedisFactory();
         factory.connect(runContext);
@@ -30,23 +64,249 @@ public abstract class AbstractRedisConnection extends Task implements RedisConne
 
     public class RedisFactory implements AutoCloseable {
         @Getter(AccessLevel.NONE)
-        private RedisClient redisClient;
+        private AbstractRedisClient redisClient;
 
         @Getter(AccessLevel.NONE)
-        private StatefulRedisConnection<String, String> redisConnection;
+        private StatefulConnection<String, String> redisConnection;
+
+        @Getter
+        private RedisClusterCommands<String, String> syncCommands;
+
+        @Getter
+        private RedisClusterAsyncCommands<String, String> asyncCommands;
 
         @Getter
-        private RedisCommands<String, String> syncCommands;
+        private boolean cluster;
+
+        @Getter(AccessLevel.NONE)
+        private ReadFrom readFrom;
+
+        @Getter(AccessLevel.NONE)
+        private Duration maxReplicationWait;
+
+        @Getter(AccessLevel.NONE)
+        private StatefulRedisConnection<String, String> upstreamConnection;
+
+        @Getter(AccessLevel.NONE)
+        private Logger logger;
+
+        @Getter(AccessLevel.NONE)
+        private RunContext runContext;
+
+        @Getter(AccessLevel.NONE)
+        private final RedisInstrumentation instrumentation = new RedisInstrumentation();
+
+        @Getter(AccessLevel.NONE)
+        private ClientResources clientResources;
 
         public void connect(RunContext runContext) throws IllegalVariableEvaluationException {
-            redisClient = RedisClient.create(runContext.render(url).as(String.class).orElseThrow());
-            redisConnection = redisClient.connect();
-            syncCommands = redisConnection.sync();
+            String rUrl = runContext.render(url).as(String.class).orElseThrow();
+            this.cluster = runContext.render(AbstractRedisConnection.this.cluster).as(Boolean.class).orElse(false);
+            this.logger = runContext.logger();
+            this.runContext = runContext;
+
+            if (AbstractRedisConnection.this instanceof ReadFromInterface readFromTask) {
+                ReadFromType rReadFrom = runContext.render(readFromTask.getReadFrom()).as(ReadFromType.class).orElse(ReadFromType.UPSTREAM);
+                if (rReadFrom != ReadFromType.UPSTREAM) {
+                    this.readFrom = rReadFrom.toReadFrom();
+                    this.maxReplicationWait = runContext.render(readFromTask.getMaxReplicationWait()).as(Duration.class).orElse(null);
+                }
+            }
+
+            // dedicated resources, so that the latencies and bytes recorded are only the ones of this task
+            this.clientResources = DefaultClientResources.builder()
+                .commandLatencyRecorder(instrumentation)
+                .nettyCustomizer(instrumentation)
+                .build();
+            long connectStart = System.nanoTime();
+            try {
+                this.open(rUrl);
+            } catch (RuntimeException e) {
+                if (this.redisClient != null) {
+                    this.redisClient.shutdown();
+                }
+                this.clientResources.shutdown();
+                throw e;
+            }
+            instrumentation.connected(System.nanoTime() - connectStart);
+        }
+
+        private void open(String rUrl) {
+            if (this.cluster) {
+                // the advanced cluster API routes each command to the master of its slot, and splits
+                // multi-key commands such as DEL, MGET or EXISTS by slot to run them on all masters in parallel
+                RedisClusterClient clusterClient = RedisClients.cluster(clientResources, rUrl);
+                redisClient = clusterClient;
+                StatefulRedisClusterConnection<String, String> connection = clusterClient.connect();
+                if (readFrom != null) {
+                    connection.setReadFrom(readFrom);
+                }
+                redisConnection = connection;
+                syncCommands = connection.sync();
+                asyncCommands = connection.async();
+            } else {
+                RedisURI redisUri = RedisURI.create(rUrl);
+                boolean sentinel = !redisUri.getSentinels().isEmpty();
+
+                RedisClient client = RedisClient.create(clientResources, redisUri);
+                redisClient = client;
+                StatefulRedisConnection<String, String> connection;
+                if (readFrom != null || sentinel) {
+                    // with a redis-sentinel:// url, the master and its replicas are discovered through the sentinels, and the
+                    // cached topology is refreshed on their +switch-master / +sdown events; otherwise replicas are discovered
+                    // from the primary's INFO replication. Read-only commands are then routed according to readFrom.
+                    StatefulRedisMasterReplicaConnection<String, String> masterReplica = MasterReplica.connect(client, StringCodec.UTF8, redisUri);
+                    masterReplica.setReadFrom(readFrom != null ? readFrom : ReadFrom.UPSTREAM);
+                    connection = masterReplica;
+                } else {
+                    connection = client.connect();
+                }
+                redisConnection = connection;
+                // during a sentinel failover, idempotent commands are replayed until the new master is reachable
+                syncCommands = sentinel
+                    ? RetryingCommands.wrap(RedisClusterCommands.class, connection.sync(), logger)
+                    : connection.sync();
+                asyncCommands = connection.async();
+            }
+        }
+
+        /**
+         * Runs a serialization or deserialization, accounting its duration in the `serde.duration` metric.
+         */
+        public <T> T serde(Callable<T> serde) throws Exception {
+            return instrumentation.serde(serde);
+        }
+
+        /**
+         * Commands for a read-only access to the given key. They follow the task's `readFrom` routing, unless
+         * `maxReplicationWait` is set and the replicas did not reach the primary's current replication offset in time,
+         * in which case they are sent to the primary owning the key.
+         */
+        public RedisClusterCommands<String, String> readCommands(String key) throws InterruptedException {
+            if (readFrom == null || maxReplicationWait == null) {
+                return syncCommands;
+            }
+
+            RedisClusterCommands<String, String> upstream = this.upstreamCommands(key);
+            if (awaitReplicas(upstream, maxReplicationWait)) {
+                return syncCommands;
+            }
+
+            logger.warn("Replicas did not catch up with the primary within {}, reading '{}' from the primary", maxReplicationWait, key);
+            return upstream;
+        }
+
+        private RedisClusterCommands<String, String> upstreamCommands(String key) {
+            if (this.cluster) {
+                @SuppressWarnings("unchecked")
+                StatefulRedisClusterConnection<String, String> connection = (StatefulRedisClusterConnection<String, String>) redisConnection;
+                RedisClusterNode node = connection.getPartitions().getMasterBySlot(SlotHash.getSlot(key));
+
+                return connection.getConnection(node.getNodeId()).sync();
+            }
+
+            if (upstreamConnection == null) {
+                upstreamConnection = ((RedisClient) redisClient).connect();
+            }
+            return upstreamConnection.sync();
+        }
+
+        private static boolean awaitReplicas(RedisClusterCommands<String, String> upstream, Duration timeout) throws InterruptedException {
+            String info = upstream.info("replication");
+            long target = masterOffset(info);
+            long deadline = System.nanoTime() + timeout.toNanos();
+
+            while (true) {
+                if (replicaOffsets(info).stream().allMatch(offset -> offset >= target)) {
+                    return true;
+                }
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+
+                Thread.sleep(REPLICATION_POLL_INTERVAL.toMillis());
+                info = upstream.info("replication");
+            }
+        }
+
+        private static long masterOffset(String info) {
+            return info.lines()
+                .filter(line -> line.startsWith("master_repl_offset:"))
+                .map(line -> Long.parseLong(line.substring("master_repl_offset:".length()).trim()))
+                .findFirst()
+                .orElse(0L);
+        }
+
+        /**
+         * Offsets of the online replicas, from lines such as `slave0:ip=10.0.0.2,port=6379,state=online,offset=1234,lag=0`.
+         */
+        private static List<Long> replicaOffsets(String info) {
+            return info.lines()
+                .filter(line -> line.startsWith("slave") && line.contains("state=online"))
+                .map(line -> {
+                    for (String field : line.substring(line.indexOf(':') + 1).split(",")) {
+                        if (field.startsWith("offset=")) {
+                            return Long.parseLong(field.substring("offset=".length()).trim());
+                        }
+                    }
+                    return null;
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        }
+
+        public Duration getTimeout() {
+            return redisConnection.getTimeout();
+        }
+
+        /**
+         * Queues the commands issued by the callback without flushing them, sends them in one write,
+         * then waits for all the replies (in order) within the connection timeout.
+         */
+        public <T> List<T> pipeline(Function<RedisClusterAsyncCommands<String, String>, List<? extends RedisFuture<? extends T>>> commands) throws InterruptedException, ExecutionException {
+            List<? extends RedisFuture<? extends T>> futures = this.send(commands);
+
+            LettuceFutures.awaitAll(redisConnection.getTimeout(), futures.toArray(new RedisFuture[0]));
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (RedisFuture<? extends T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+
+        /**
+         * Like {@link #pipeline}, but returns as soon as the commands are written, with a future of their replies (in order),
+         * so that several pipelines can be in flight at once. Pipelines sent from the same thread are executed in the order they were sent.
+         */
+        public <T> CompletableFuture<List<T>> pipelineAsync(Function<RedisClusterAsyncCommands<String, String>, List<? extends RedisFuture<? extends T>>> commands) {
+            List<? extends RedisFuture<? extends T>> futures = this.send(commands);
+
+            return CompletableFuture.allOf(futures.stream().map(RedisFuture::toCompletableFuture).toArray(CompletableFuture[]::new))
+                .orTimeout(redisConnection.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> futures.stream().<T>map(future -> future.toCompletableFuture().join()).toList());
+        }
+
+        private <T> List<? extends RedisFuture<? extends T>> send(Function<RedisClusterAsyncCommands<String, String>, List<? extends RedisFuture<? extends T>>> commands) {
+            redisConnection.setAutoFlushCommands(false);
+            try {
+                List<? extends RedisFuture<? extends T>> futures = commands.apply(asyncCommands);
+                redisConnection.flushCommands();
+                return futures;
+            } finally {
+                redisConnection.setAutoFlushCommands(true);
+            }
         }
 
         public void close() {
+            if (this.upstreamConnection != null) {
+                this.upstreamConnection.close();
+            }
             this.redisConnection.close();
             this.redisClient.shutdown();
+            this.clientResources.shutdown();
+
+            instrumentation.report(runContext);
         }
     }
 }
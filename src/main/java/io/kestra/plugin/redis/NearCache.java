@@ -0,0 +1,306 @@
+package io.kestra.plugin.redis;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.models.ReadFromType;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/**
+ * A worker-wide client-side cache of read results, kept consistent by RESP3 {@code CLIENT TRACKING}: the server
+ * pushes an invalidation message on the cache connection whenever a key read through it is modified, evicted or expires.
+ * <p>
+ * This is the mechanism of Lettuce's {@code ClientSideCaching}, reimplemented so that any read command (not only
+ * {@code GET}) can be cached under its key. One cache, with its own connection, is shared by all the task runs
+ * using the same url; it is bounded by the total size of its values and evicts the least recently used first.
+ * <p>
+ * At most {@link #MAX_CACHES} caches are kept: the least recently used one is closed beyond that, as are the caches
+ * unused for {@link #IDLE_TIMEOUT} and the ones whose connection is down, which are rebuilt on their next use.
+ * All of them share one set of client resources, and their connection uses the timeout of the url like the task's own.
+ */
+public final class NearCache {
+    static final int MAX_CACHES = 8;
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    // access-ordered, guarded by itself
+    private static final LinkedHashMap<String, NearCache> CACHES = new LinkedHashMap<>(16, 0.75f, true);
+    private static ClientResources clientResources;
+
+    // the weight of a cached null (missing key) or of the entry bookkeeping
+    private static final long ENTRY_OVERHEAD = 64;
+
+    private static final Object NULL = new Object();
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, String> connection;
+    private final long maxBytes;
+
+    // access-ordered: iteration starts with the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<String>> entriesByKey = new HashMap<>();
+    private long totalBytes = 0;
+
+    // bumped on every invalidation, so that a value read while one of its keys was invalidated is not cached
+    private long generation = 0;
+    private final AtomicLong pendingInvalidations = new AtomicLong();
+
+    // a retired cache is closed once the reads in progress are done
+    private volatile long lastUsed = System.nanoTime();
+    private volatile boolean retired = false;
+    private final AtomicInteger readers = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private NearCache(ClientResources clientResources, String url, long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.client = RedisClient.create(clientResources, RedisURI.create(url));
+        this.client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+
+        try {
+            this.connection = client.connect();
+        } catch (RuntimeException e) {
+            client.shutdown();
+            throw e;
+        }
+        this.connection.addListener(message -> {
+            if (!message.getType().equals("invalidate")) {
+                return;
+            }
+
+            List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+            if (content.size() < 2 || content.get(1) == null) {
+                // the server flushed its tracking table (FLUSHALL / FLUSHDB)
+                clear();
+            } else {
+                @SuppressWarnings("unchecked")
+                List<String> keys = (List<String>) content.get(1);
+                keys.forEach(this::invalidate);
+            }
+        });
+
+        // the tracking state lives in the server-side connection: drop everything cached when the connection is lost,
+        // and turn tracking on again once reconnected
+        this.client.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                clear();
+            }
+
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress remoteAddress) {
+                if (connection != null) {
+                    connection.async().clientTracking(TrackingArgs.Builder.enabled());
+                }
+            }
+        });
+
+        try {
+            this.connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+        } catch (RuntimeException e) {
+            connection.close();
+            client.shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * The cache for the task's url, created on first use.
+     *
+     * @throws IllegalArgumentException in cluster mode, where tracking would be needed on every shard, and with a
+     *                                  {@code readFrom} other than UPSTREAM or a {@code maxReplicationWait}, as cached reads are made on the primary
+     */
+    public static NearCache of(RunContext runContext, RedisConnectionInterface task, long maxBytes) throws Exception {
+        if (runContext.render(task.getCluster()).as(Boolean.class).orElse(false)) {
+            throw new IllegalArgumentException("The near cache is not available in cluster mode");
+        }
+
+        if (task instanceof ReadFromInterface readFromTask
+            && (runContext.render(readFromTask.getReadFrom()).as(ReadFromType.class).orElse(ReadFromType.UPSTREAM) != ReadFromType.UPSTREAM
+                || runContext.render(readFromTask.getMaxReplicationWait()).as(Duration.class).isPresent())) {
+            throw new IllegalArgumentException("The near cache reads from the primary, it cannot be combined with readFrom or maxReplicationWait");
+        }
+
+        String rUrl = runContext.render(task.getUrl()).as(String.class).orElseThrow();
+        String id = maxBytes + "|" + rUrl;
+
+        synchronized (CACHES) {
+            long now = System.nanoTime();
+            CACHES.values().removeIf(cache -> {
+                boolean stale = now - cache.lastUsed > IDLE_TIMEOUT.toNanos() || !cache.connection.isOpen();
+                if (stale) {
+                    cache.retire();
+                }
+                return stale;
+            });
+
+            NearCache cache = CACHES.get(id);
+            if (cache == null) {
+                if (clientResources == null) {
+                    clientResources = DefaultClientResources.create();
+                }
+
+                cache = new NearCache(clientResources, rUrl, maxBytes);
+                CACHES.put(id, cache);
+
+                Iterator<NearCache> eldest = CACHES.values().iterator();
+                while (CACHES.size() > MAX_CACHES) {
+                    NearCache evicted = eldest.next();
+                    eldest.remove();
+                    evicted.retire();
+                }
+            }
+
+            cache.lastUsed = now;
+            return cache;
+        }
+    }
+
+    /**
+     * Returns the cached result of the read identified by the key and the variant (the command and its arguments),
+     * or loads it with the loader, which runs on the tracked connection. Hits and misses, and the invalidations
+     * received since the previous read on this cache, are counted in the stats of the task run.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Stats stats, String key, String variant, Function<RedisCommands<String, String>, T> loader, ToLongFunction<T> weigher) {
+        String id = key + '\0' + variant;
+        stats.invalidations += pendingInvalidations.getAndSet(0);
+
+        long readGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                stats.hits++;
+                return entry.value == NULL ? null : (T) entry.value;
+            }
+            readGeneration = generation;
+        }
+
+        stats.misses++;
+        T value;
+        readers.incrementAndGet();
+        try {
+            value = loader.apply(connection.sync());
+        } finally {
+            readers.decrementAndGet();
+            closeIfRetired();
+        }
+
+        synchronized (this) {
+            if (readGeneration == generation) {
+                put(key, id, value == null ? NULL : value, ENTRY_OVERHEAD + (value == null ? 0 : weigher.applyAsLong(value)));
+            }
+        }
+
+        return value;
+    }
+
+    private void put(String key, String id, Object value, long weight) {
+        if (weight > maxBytes) {
+            return;
+        }
+
+        Entry previous = entries.put(id, new Entry(key, value, weight));
+        if (previous != null) {
+            totalBytes -= previous.weight;
+        }
+        totalBytes += weight;
+        entriesByKey.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> evicted = eldest.next();
+            eldest.remove();
+            totalBytes -= evicted.getValue().weight;
+            forget(evicted.getValue().key, evicted.getKey());
+        }
+    }
+
+    private synchronized void invalidate(String key) {
+        generation++;
+        pendingInvalidations.incrementAndGet();
+
+        Set<String> ids = entriesByKey.remove(key);
+        if (ids != null) {
+            ids.forEach(id -> totalBytes -= entries.remove(id).weight);
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entries.clear();
+        entriesByKey.clear();
+        totalBytes = 0;
+    }
+
+    private void retire() {
+        retired = true;
+        closeIfRetired();
+    }
+
+    private void closeIfRetired() {
+        if (retired && readers.get() == 0 && closed.compareAndSet(false, true)) {
+            connection.close();
+            client.shutdown();
+            clear();
+        }
+    }
+
+    private void forget(String key, String id) {
+        Set<String> ids = entriesByKey.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                entriesByKey.remove(key);
+            }
+        }
+    }
+
+    private record Entry(String key, Object value, long weight) {
+    }
+
+    /**
+     * The near cache activity of one task run, reported once when the run is done.
+     */
+    public static final class Stats {
+        private long hits = 0;
+        private long misses = 0;
+        private long invalidations = 0;
+
+        public void report(RunContext runContext) {
+            if (hits > 0) {
+                runContext.metric(Counter.of("near.cache.hits.count", hits));
+            }
+            if (misses > 0) {
+                runContext.metric(Counter.of("near.cache.misses.count", misses));
+            }
+            if (invalidations > 0) {
+                runContext.metric(Counter.of("near.cache.invalidations.count", invalidations));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.kestra.plugin.redis;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Read tasks whose results can be served by the worker's {@link NearCache}.
+ */
+public interface NearCacheInterface {
+    long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Serve reads from a client-side cache",
+        description = "When true, results are cached on the worker and shared by all the task runs reading from the same `url`, "
+            + "and kept consistent by RESP3 `CLIENT TRACKING`: Redis pushes an invalidation as soon as a cached key is modified, "
+            + "so repeated reads of hot keys do not reach the server. Requires Redis 6+, not available in cluster mode; "
+            + "cannot be combined with a `readFrom` other than `UPSTREAM` or with `maxReplicationWait`, as cached reads are always made on the primary. "
+            + "Reads go through the cache's own connection, so they report `near.cache.hits.count`, `near.cache.misses.count` and `near.cache.invalidations.count` "
+            + "metrics instead of the connection metrics (`connect.duration`, `command.latency.*`, `bytes.*`). Defaults to false."
+    )
+    Property<Boolean> getNearCache();
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum size of the client-side cache in bytes",
+        description = "Approximate total size of the cached values; the least recently used ones are evicted beyond it. Defaults to 64 MiB."
+    )
+    Property<Long> getNearCacheMaxBytes();
+}
@@ -0,0 +1,34 @@
+package io.kestra.plugin.redis;
+
+import java.time.Duration;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.redis.models.ReadFromType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Read-only tasks that can be served by replicas.
+ */
+public interface ReadFromInterface {
+    @PluginProperty(group = "connection")
+    @Schema(
+        title = "Node to read from",
+        description = "`UPSTREAM` (default) reads from the primary. Any other value discovers the replicas of the `url` primary "
+            + "(or of each cluster shard in cluster mode) and routes the read accordingly: `REPLICA_PREFERRED` uses a replica when one is up, "
+            + "`LOWEST_LATENCY` the fastest node, `ANY` any node. Replicas replicate asynchronously and may lag behind the primary, "
+            + "see `maxReplicationWait`."
+    )
+    Property<ReadFromType> getReadFrom();
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Maximum wait for the replicas to catch up",
+        description = "Only used when `readFrom` is not `UPSTREAM`. Before reading, waits until every online replica has reached the replication offset "
+            + "the primary had when the task started, so that writes made by previous tasks are visible (read-your-writes). "
+            + "When the replicas do not catch up within this duration, the read falls back to the primary. "
+            + "When unset, reads are served by replicas without any staleness check."
+    )
+    Property<Duration> getMaxReplicationWait();
+}
@@ -0,0 +1,44 @@
+package io.kestra.plugin.redis;
+
+import java.time.Duration;
+
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Creates the Lettuce clients shared by tasks and triggers.
+ */
+public final class RedisClients {
+    private static final Duration TOPOLOGY_REFRESH_PERIOD = Duration.ofSeconds(30);
+
+    private RedisClients() {
+    }
+
+    /**
+     * A cluster client seeded with the given URL (one or several comma-separated nodes), that follows
+     * slot migrations and failovers both periodically and as soon as a MOVED/ASK redirect or a reconnect is seen.
+     */
+    public static RedisClusterClient cluster(String url) {
+        return configure(RedisClusterClient.create(url));
+    }
+
+    /**
+     * Same as {@link #cluster(String)}, on the given client resources, which the caller shuts down.
+     */
+    public static RedisClusterClient cluster(ClientResources clientResources, String url) {
+        return configure(RedisClusterClient.create(clientResources, url));
+    }
+
+    private static RedisClusterClient configure(RedisClusterClient client) {
+        client.setOptions(ClusterClientOptions.builder()
+            .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                .enablePeriodicRefresh(TOPOLOGY_REFRESH_PERIOD)
+                .enableAllAdaptiveRefreshTriggers()
+                .build())
+            .build());
+
+        return client;
+    }
+}
@@ -11,7 +11,19 @@ public interface RedisConnectionInterface {
     @NotNull
     @PluginProperty(group = "main", secret = true)
     @Schema(
-        title = "Redis connection string"
+        title = "Redis connection string",
+        description = "A `redis://` or `rediss://` URL, or a `redis-sentinel://` URL (e.g. `redis-sentinel://:password@sentinel1:26379,sentinel2:26379/0#mymaster`) "
+            + "to discover the master through Sentinel and follow its failovers: idempotent commands failing while the master switches "
+            + "are retried with an exponential backoff for up to 30 seconds."
     )
     Property<String> getUrl();
+
+    @PluginProperty(group = "connection")
+    @Schema(
+        title = "Redis Cluster mode",
+        description = "Connects with a cluster client that discovers the topology from the `url` node(s) (comma-separated, e.g. `redis://node1:6379,node2:6379`), "
+            + "routes each command to the master owning its hash slot and refreshes the topology on redirects and every 30 seconds. "
+            + "Multi-key commands such as key deletions are split by slot and run on the masters in parallel. Defaults to false."
+    )
+    Property<Boolean> getCluster();
 }
@@ -0,0 +1,151 @@
+package io.kestra.plugin.redis;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.resource.NettyCustomizer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Collects the timings of a {@link AbstractRedisConnection.RedisFactory}: plugged in its client resources, it records the
+ * latency of every command and counts the bytes sent and received on its channels; connect and serialization times
+ * are added by the factory. Everything is published as task metrics when the factory is closed.
+ * <p>
+ * Latencies are kept in a bounded reservoir per command type rather than Lettuce's {@code DefaultCommandLatencyCollector},
+ * which needs the optional HdrHistogram and LatencyUtils dependencies.
+ */
+final class RedisInstrumentation implements CommandLatencyRecorder, NettyCustomizer {
+    static final int MAX_SAMPLES = 10_000;
+
+    private final Map<String, Samples> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong serdeNanos = new AtomicLong();
+    private volatile long connectNanos = 0;
+
+    @Override
+    public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType, long firstResponseLatency, long completionLatency) {
+        latencies.computeIfAbsent(commandType.toString(), k -> new Samples()).add(completionLatency);
+    }
+
+    @Override
+    public void afterChannelInitialized(Channel channel) {
+        channel.pipeline().addFirst(new ByteCounter());
+    }
+
+    void connected(long nanos) {
+        this.connectNanos = nanos;
+    }
+
+    <T> T serde(Callable<T> serde) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return serde.call();
+        } finally {
+            serdeNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    void report(RunContext runContext) {
+        runContext.metric(Timer.of("connect.duration", Duration.ofNanos(connectNanos)));
+
+        latencies.forEach((command, samples) -> {
+            long[] sorted = samples.sorted();
+            runContext.metric(Counter.of("command.count", samples.count(), "command", command));
+            runContext.metric(Timer.of("command.latency.p50", Duration.ofNanos(percentile(sorted, 0.50)), "command", command));
+            runContext.metric(Timer.of("command.latency.p99", Duration.ofNanos(percentile(sorted, 0.99)), "command", command));
+        });
+
+        runContext.metric(Counter.of("bytes.read.count", bytesRead.get()));
+        runContext.metric(Counter.of("bytes.written.count", bytesWritten.get()));
+
+        if (serdeNanos.get() > 0) {
+            runContext.metric(Timer.of("serde.duration", Duration.ofNanos(serdeNanos.get())));
+        }
+    }
+
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long size(Object message) {
+        if (message instanceof ByteBuf buffer) {
+            return buffer.readableBytes();
+        }
+        if (message instanceof ByteBufHolder holder) {
+            return holder.content().readableBytes();
+        }
+        return 0;
+    }
+
+    @ChannelHandler.Sharable
+    private class ByteCounter extends ChannelDuplexHandler {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            bytesRead.addAndGet(size(msg));
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            bytesWritten.addAndGet(size(msg));
+            super.write(ctx, msg, promise);
+        }
+    }
+
+    /**
+     * A uniform reservoir sample of the latencies, so that long-lived factories keep a bounded footprint.
+     */
+    static final class Samples {
+        private long[] values = new long[16];
+        private long count = 0;
+
+        synchronized void add(long value) {
+            if (count < MAX_SAMPLES) {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, Math.min(values.length * 2, MAX_SAMPLES));
+                }
+                values[(int) count] = value;
+            } else {
+                long index = ThreadLocalRandom.current().nextLong(count + 1);
+                if (index < MAX_SAMPLES) {
+                    values[(int) index] = value;
+                }
+            }
+            count++;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, (int) Math.min(count, MAX_SAMPLES));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.kestra.plugin.redis;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Set;
+
+import org.slf4j.Logger;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+
+/**
+ * Wraps synchronous commands so that idempotent ones are retried with a bounded exponential backoff when they fail
+ * during a failover: while the connection is down, when the old master has been demoted (READONLY) or while the new
+ * one is still loading its dataset. Commands that are not safe to replay (increments, pushes, pops, XADD...) fail as usual.
+ * <p>
+ * Writes are only retried when the server certainly did not run them: a rejection (READONLY, LOADING, MASTERDOWN) or
+ * a connection that could not be established. After a timeout the first attempt may have been applied, and a replay
+ * would change the reply the task relies on (a SET NX returning null, a DEL counting 0 keys...).
+ */
+final class RetryingCommands implements InvocationHandler {
+    static final Duration INITIAL_BACKOFF = Duration.ofMillis(50);
+    static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+    static final Duration MAX_RETRY_DURATION = Duration.ofSeconds(30);
+
+    private static final Set<String> READ_COMMANDS = Set.of(
+        "get", "mget", "exists", "ttl", "pttl", "type", "strlen", "getrange", "keys", "scan", "dbsize",
+        "hget", "hmget", "hgetall", "hkeys", "hvals", "hexists", "hlen",
+        "lrange", "llen", "lindex", "smembers", "sismember", "scard", "zrange", "zscore", "zcard",
+        "xrange", "xrevrange", "xlen", "xpending", "xinfoStream", "xinfoGroups",
+        "jsonGet", "jsonMGet", "jsonType", "jsonStrlen", "jsonArrlen", "jsonObjkeys", "jsonObjlen",
+        "vsim", "vsimWithScore", "vcard", "vdim", "vemb", "vgetattr", "vinfo",
+        "info", "configGet", "ping"
+    );
+
+    // writes that leave the same state when replayed, resent only when they were not applied
+    private static final Set<String> WRITE_COMMANDS = Set.of(
+        "set", "mset", "setex", "psetex", "del", "unlink", "expire", "pexpire", "persist",
+        "hset", "hmset", "hdel", "sadd", "srem", "zadd", "zrem",
+        "jsonSet", "jsonDel", "vadd", "vrem", "vsetattr", "xack", "configSet"
+    );
+
+    private final Object target;
+    private final Logger logger;
+
+    private final Duration maxRetryDuration;
+
+    private RetryingCommands(Object target, Logger logger, Duration maxRetryDuration) {
+        this.target = target;
+        this.logger = logger;
+        this.maxRetryDuration = maxRetryDuration;
+    }
+
+    static <T> T wrap(Class<T> type, T target, Logger logger) {
+        return wrap(type, target, logger, MAX_RETRY_DURATION);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T wrap(Class<T> type, T target, Logger logger, Duration maxRetryDuration) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new RetryingCommands(target, logger, maxRetryDuration));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(method, args);
+        }
+
+        boolean read = READ_COMMANDS.contains(method.getName());
+        if (!read && !WRITE_COMMANDS.contains(method.getName())) {
+            return invokeTarget(method, args);
+        }
+
+        // the budget starts at the first failure: a first attempt can itself last up to the command timeout
+        long deadline = 0;
+        Duration backoff = INITIAL_BACKOFF;
+        while (true) {
+            try {
+                return invokeTarget(method, args);
+            } catch (RuntimeException e) {
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + maxRetryDuration.toNanos();
+                }
+                if (!(read ? isRetryable(e) : isRetryableWrite(e)) || System.nanoTime() + backoff.toNanos() > deadline) {
+                    throw e;
+                }
+
+                logger.warn("Redis command '{}' failed ({}), retrying in {}", method.getName(), e.getMessage(), backoff);
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    RedisCommandInterruptedException exception = new RedisCommandInterruptedException(interrupted);
+                    exception.addSuppressed(e);
+                    throw exception;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static boolean isRetryable(RuntimeException e) {
+        if (e instanceof RedisConnectionException || e instanceof RedisCommandTimeoutException) {
+            return true;
+        }
+
+        if (e instanceof RedisCommandExecutionException && e.getMessage() != null) {
+            String message = e.getMessage();
+            return message.startsWith("READONLY") || message.startsWith("LOADING") || message.startsWith("MASTERDOWN");
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether a write that failed with this error was certainly not applied, so it can be sent again.
+     */
+    static boolean isRetryableWrite(RuntimeException e) {
+        return !(e instanceof RedisCommandTimeoutException) && isRetryable(e);
+    }
+}
@@ -0,0 +1,23 @@
+package io.kestra.plugin.redis.cli;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "How RedisCLI runs its commands"
+)
+public enum ExecutionMode {
+    /**
+     * One task runner invocation (one container with Docker) per command.
+     */
+    PER_COMMAND,
+
+    /**
+     * All commands chained in a single `/bin/sh -c` script, so only one container is started.
+     */
+    SINGLE_CONTAINER,
+
+    /**
+     * Commands dispatched in-process over a Lettuce connection, without any task runner.
+     */
+    NATIVE
+}
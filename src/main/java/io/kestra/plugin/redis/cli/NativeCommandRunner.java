@@ -0,0 +1,196 @@
+package io.kestra.plugin.redis.cli;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.ProtocolVersion;
+
+/**
+ * Runs tokenized redis-cli command lines in-process over a Lettuce connection and renders each reply the
+ * way redis-cli prints it when stdout is not a terminal (raw mode), or as JSON like {@code redis-cli --json}.
+ */
+class NativeCommandRunner implements AutoCloseable {
+    private final RedisClient redisClient;
+    private final StatefulRedisConnection<String, String> connection;
+    private final boolean jsonOutput;
+
+    NativeCommandRunner(RedisURI redisURI, boolean jsonOutput) {
+        this.redisClient = RedisClient.create(redisURI);
+        // redis-cli talks RESP2 unless told otherwise, so replies are only arrays, integers and (bulk) strings
+        this.redisClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build());
+        this.connection = this.redisClient.connect();
+        this.jsonOutput = jsonOutput;
+    }
+
+    Reply run(List<String> tokens) throws IOException {
+        StringWriter writer = new StringWriter();
+        Reply reply = this.run(tokens, writer);
+
+        // same as the shell $(...) capture used by the container modes: trailing newlines are dropped
+        StringBuffer output = writer.getBuffer();
+        int end = output.length();
+        while (end > 0 && output.charAt(end - 1) == '\n') {
+            end--;
+        }
+
+        return new Reply(output.substring(0, end), reply.error(), reply.lines());
+    }
+
+    /**
+     * Runs the command and streams its rendered reply to the writer, as {@code redis-cli > file} would.
+     */
+    Reply run(List<String> tokens, Writer writer) throws IOException {
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("Redis CLI command must not be empty");
+        }
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8);
+        tokens.subList(1, tokens.size()).forEach(args::add);
+
+        try {
+            Object reply = this.connection.sync().dispatch(keyword(tokens.getFirst()), new ReplyOutput(), args);
+
+            return new Reply(null, false, this.render(reply, writer));
+        } catch (RedisCommandExecutionException e) {
+            writer.write(e.getMessage());
+            writer.write('\n');
+
+            return new Reply(e.getMessage(), true, 1);
+        }
+    }
+
+    private long render(Object reply, Writer writer) throws IOException {
+        if (this.jsonOutput) {
+            writer.write(JacksonMapper.ofJson(false).writeValueAsString(reply));
+            writer.write('\n');
+
+            return 1;
+        }
+
+        return renderRaw(reply, writer);
+    }
+
+    private static long renderRaw(Object reply, Writer writer) throws IOException {
+        if (reply instanceof List<?> list) {
+            long lines = 0;
+            for (Object element : list) {
+                lines += renderRaw(element, writer);
+            }
+
+            return lines;
+        }
+
+        if (reply != null) {
+            writer.write(String.valueOf(reply));
+        }
+        writer.write('\n');
+
+        return 1;
+    }
+
+    private static ProtocolKeyword keyword(String command) {
+        String name = command.toUpperCase(Locale.ROOT);
+        try {
+            return CommandType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            // module commands (JSON.GET, FT.SEARCH, ...) and commands newer than the client
+            return new RawKeyword(name, name.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void close() {
+        this.connection.close();
+        this.redisClient.shutdown();
+    }
+
+    /**
+     * @param output the rendered reply, or only the error message when the reply was streamed to a writer
+     * @param lines number of lines rendered
+     */
+    record Reply(String output, boolean error, long lines) {
+    }
+
+    private record RawKeyword(String name, byte[] bytes) implements ProtocolKeyword {
+        @Override
+        public byte[] getBytes() {
+            return this.bytes;
+        }
+    }
+
+    /**
+     * Generic RESP2 output: nested arrays become nested lists, whatever the command is.
+     */
+    private static class ReplyOutput extends CommandOutput<String, String, Object> {
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        ReplyOutput() {
+            super(StringCodec.UTF8, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            this.add(bytes == null ? null : this.codec.decodeValue(bytes));
+        }
+
+        @Override
+        public void set(long integer) {
+            this.add(integer);
+        }
+
+        @Override
+        public void set(double number) {
+            this.add(number);
+        }
+
+        @Override
+        public void multi(int count) {
+            if (count < 0) {
+                this.add(null);
+            } else if (count == 0) {
+                this.add(new ArrayList<>());
+            } else {
+                this.frames.push(new Frame(new ArrayList<>(count), count));
+            }
+        }
+
+        private void add(Object value) {
+            Object current = value;
+            while (!this.frames.isEmpty()) {
+                Frame frame = this.frames.peek();
+                frame.values().add(current);
+                if (frame.values().size() < frame.expected()) {
+                    return;
+                }
+
+                this.frames.pop();
+                current = frame.values();
+            }
+
+            this.output = current;
+        }
+
+        private record Frame(List<Object> values, int expected) {
+        }
+    }
+}
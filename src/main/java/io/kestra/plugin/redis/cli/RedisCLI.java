@@ -1,9 +1,15 @@
 package io.kestra.plugin.redis.cli;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
@@ -14,17 +20,21 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.*;
 import io.kestra.core.models.tasks.runners.TaskRunner;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.scripts.exec.scripts.models.DockerOptions;
 import io.kestra.plugin.scripts.exec.scripts.models.ScriptOutput;
 import io.kestra.plugin.scripts.exec.scripts.runners.CommandsWrapper;
 import io.kestra.plugin.scripts.runner.docker.Docker;
 
+import io.lettuce.core.RedisURI;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -35,6 +45,7 @@ import lombok.experimental.SuperBuilder;
     description = """
         Executes the provided redis-cli commands sequentially using the configured task runner (Docker by default with image redis:7-alpine), failing on the first non-zero or detected Redis error.
         Supports TLS, username/password auth via REDISCLI_AUTH, and optional JSON output (Redis 7+).
+        Set `executionMode: NATIVE` to send the same commands in-process, without any container.
         """
 )
 @Plugin(
@@ -96,6 +107,45 @@ import lombok.experimental.SuperBuilder;
                       - INFO server
                       - DBSIZE
                 """
+        ),
+        @Example(
+            title = "Execute Redis CLI commands in-process, without starting a container.",
+            full = true,
+            code = """
+                id: redis_cli_native
+                namespace: company.team
+
+                tasks:
+                  - id: redis_cli
+                    type: io.kestra.plugin.redis.cli.RedisCLI
+                    host: localhost
+                    port: 6379
+                    password: "{{ secret('REDIS_PASSWORD') }}"
+                    executionMode: NATIVE
+                    commands:
+                      - SET mykey "Hello World"
+                      - GET mykey
+                """
+        ),
+        @Example(
+            title = "Load a large file of commands with the redis-cli mass insertion protocol.",
+            full = true,
+            code = """
+                id: redis_cli_mass_insert
+                namespace: company.team
+
+                inputs:
+                  - id: commands
+                    type: FILE
+
+                tasks:
+                  - id: redis_cli
+                    type: io.kestra.plugin.redis.cli.RedisCLI
+                    host: localhost
+                    port: 6379
+                    password: "{{ secret('REDIS_PASSWORD') }}"
+                    pipeFrom: "{{ inputs.commands }}"
+                """
         )
     },
     metrics = {
@@ -104,6 +154,18 @@ import lombok.experimental.SuperBuilder;
             type = Counter.TYPE,
             unit = "commands",
             description = "Number of Redis CLI commands executed."
+        ),
+        @Metric(
+            name = "pipe.replies.count",
+            type = Counter.TYPE,
+            unit = "replies",
+            description = "Number of replies received during a `pipeFrom` mass insertion."
+        ),
+        @Metric(
+            name = "pipe.errors.count",
+            type = Counter.TYPE,
+            unit = "errors",
+            description = "Number of error replies received during a `pipeFrom` mass insertion."
         )
     }
 )
@@ -111,6 +173,8 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
 
     private static final String DEFAULT_IMAGE = "redis:7-alpine";
 
+    private static final String COMMAND_OUTPUT_EXTENSION = ".out";
+
     @PluginProperty(group = "main")
     @Schema(title = "Redis host")
     @NotNull
@@ -161,11 +225,32 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
         title = "Commands to run",
         description = "List of redis-cli commands executed in order; task stops on first failure or error output. "
             + "Each command is tokenized with shell-style quoting and passed to redis-cli as literal arguments, so shell/variable "
-            + "expansion (`$VAR`, `$(...)`, backticks) is not performed; use the `env` property or Kestra expressions for dynamic values."
+            + "expansion (`$VAR`, `$(...)`, backticks) is not performed; use the `env` property or Kestra expressions for dynamic values. "
+            + "Required unless `pipeFrom` is set."
     )
-    @NotNull
     private Property<List<String>> commands;
 
+    @PluginProperty(group = "destination")
+    @Schema(
+        title = "Write command outputs to files",
+        description = "Defaults to false. When true, the output of each command is streamed to a `command_N.out` file returned in `outputFiles`, "
+            + "instead of being buffered and logged as a single line; `vars.command_N` then only holds its `size` in bytes and its number of `lines`. "
+            + "Use it for commands with large outputs such as `KEYS`, `HGETALL` or `--scan`."
+    )
+    @Builder.Default
+    private Property<Boolean> outputToFiles = Property.ofValue(false);
+
+    @PluginProperty(group = "source")
+    @Schema(
+        title = "Mass insertion source",
+        description = "Kestra internal storage URI of a file of commands to load with the `redis-cli --pipe` protocol instead of running `commands`. "
+            + "In an `.ion` file each row is either a list of arguments or a command line; in a `.csv` file each line holds the arguments "
+            + "of one command; any other file is read as one command line per line. Rows are streamed and encoded to raw RESP, then piped "
+            + "to `redis-cli --pipe` in the container, or written directly to the Redis socket with `executionMode: NATIVE`. "
+            + "The `errors` and `replies` counts are returned in `vars`, and the task fails when `errors` is not zero."
+    )
+    private Property<String> pipeFrom;
+
     @PluginProperty(group = "destination")
     @Schema(
         title = "Enable JSON output",
@@ -174,6 +259,19 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
     @Builder.Default
     private Property<Boolean> jsonOutput = Property.ofValue(false);
 
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Execution mode",
+        description = "Defaults to PER_COMMAND, which starts one task runner invocation per command. "
+            + "SINGLE_CONTAINER chains all commands in one `/bin/sh -c` script so a single container is started; "
+            + "outputs and the stop-on-first-failure behavior are the same in both modes. "
+            + "NATIVE skips the task runner entirely and sends each command over an in-process connection, rendering replies like redis-cli does "
+            + "(raw text, or JSON with `jsonOutput`); `taskRunner`, `docker`, `env` and file properties are ignored, and blocking commands "
+            + "such as `SUBSCRIBE` or `MONITOR` are not supported."
+    )
+    @Builder.Default
+    private Property<ExecutionMode> executionMode = Property.ofValue(ExecutionMode.PER_COMMAND);
+
     @PluginProperty(group = "execution")
     @Schema(
         title = "Container image",
@@ -228,13 +326,70 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
         Boolean rTls = runContext.render(tls).as(Boolean.class).orElse(false);
         Boolean rJsonOutput = runContext.render(jsonOutput).as(Boolean.class).orElse(false);
         List<String> rCommands = runContext.render(commands).asList(String.class);
+        Optional<URI> rPipeFrom = runContext.render(pipeFrom).as(String.class).map(URI::create);
         String rContainerImage = runContext.render(containerImage).as(String.class).orElse(DEFAULT_IMAGE);
+        ExecutionMode rExecutionMode = runContext.render(executionMode).as(ExecutionMode.class).orElse(ExecutionMode.PER_COMMAND);
+        boolean rOutputToFiles = runContext.render(outputToFiles).as(Boolean.class).orElse(false);
 
-        if (rCommands.isEmpty()) {
+        if (rPipeFrom.isPresent() && !rCommands.isEmpty()) {
+            throw new IllegalArgumentException("Only one of `commands` or `pipeFrom` can be set");
+        }
+        if (rPipeFrom.isEmpty() && rCommands.isEmpty()) {
             throw new IllegalArgumentException("At least one command must be provided");
         }
 
-        logger.info("Executing {} Redis CLI command(s) against {}:{}", rCommands.size(), rHost, rPort);
+        if (rPipeFrom.isPresent()) {
+            logger.info("Mass inserting '{}' against {}:{}", rPipeFrom.get(), rHost, rPort);
+        } else {
+            logger.info("Executing {} Redis CLI command(s) against {}:{}", rCommands.size(), rHost, rPort);
+        }
+
+        if (rExecutionMode == ExecutionMode.NATIVE && rPipeFrom.isPresent()) {
+            List<List<String>> handshake = new ArrayList<>();
+            if (rPassword != null && !rPassword.isEmpty()) {
+                handshake.add(rUsername != null && !rUsername.isEmpty() ? List.of("AUTH", rUsername, rPassword) : List.of("AUTH", rPassword));
+            }
+            if (rDatabase != 0) {
+                handshake.add(List.of("SELECT", String.valueOf(rDatabase)));
+            }
+
+            RespPipe.Summary summary;
+            try (RespPipe pipe = new RespPipe(rHost, rPort, rTls)) {
+                summary = pipe.run(handshake, encoder -> writePipeRows(runContext, rPipeFrom.get(), encoder));
+            }
+
+            if (summary.firstError() != null) {
+                logger.error("First error reply: {}", summary.firstError());
+            }
+
+            return ScriptOutput.builder()
+                .vars(pipeOutputs(runContext, summary.errors(), summary.replies()))
+                .exitCode(0)
+                .build();
+        }
+
+        if (rExecutionMode == ExecutionMode.NATIVE) {
+            RedisURI.Builder redisURI = RedisURI.builder()
+                .withHost(rHost)
+                .withPort(rPort)
+                .withDatabase(rDatabase)
+                .withSsl(rTls);
+            if (rPassword != null && !rPassword.isEmpty()) {
+                if (rUsername != null && !rUsername.isEmpty()) {
+                    redisURI.withAuthentication(rUsername, rPassword);
+                } else {
+                    redisURI.withPassword(rPassword);
+                }
+            }
+
+            Map<String, Object> vars = new HashMap<>();
+            Map<String, URI> commandOutputFiles = new HashMap<>();
+            runNative(runContext, redisURI.build(), rJsonOutput, rOutputToFiles, rCommands, vars, commandOutputFiles);
+
+            runContext.metric(Counter.of("executed.commands.count", rCommands.size()));
+
+            return ScriptOutput.builder().vars(vars).outputFiles(commandOutputFiles).exitCode(0).build();
+        }
 
         StringBuilder baseCommand = new StringBuilder("redis-cli");
         baseCommand.append(" -h ").append(shellQuote(rHost));
@@ -247,11 +402,24 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
         if (rTls) {
             baseCommand.append(" --tls");
         }
-        if (rJsonOutput) {
+        if (rJsonOutput && rPipeFrom.isEmpty()) {
             baseCommand.append(" --json");
         }
 
-        List<String> wrappedShellCommands = extractWrappedShellCommands(rCommands, baseCommand);
+        List<String> wrappedShellCommands;
+        if (rPipeFrom.isPresent()) {
+            // encoded in the working directory, which the task runner makes available to the container
+            Path respFile = runContext.workingDir().createTempFile(".resp");
+            try (var output = new BufferedOutputStream(Files.newOutputStream(respFile), FileSerde.BUFFER_SIZE)) {
+                RespEncoder encoder = new RespEncoder(output);
+                writePipeRows(runContext, rPipeFrom.get(), encoder);
+                logger.debug("Encoded {} command(s) to '{}'", encoder.getCount(), respFile.getFileName());
+            }
+
+            wrappedShellCommands = List.of(wrapPipeCommand(baseCommand, respFile.getFileName().toString()));
+        } else {
+            wrappedShellCommands = extractWrappedShellCommands(rCommands, baseCommand, rExecutionMode == ExecutionMode.SINGLE_CONTAINER, rOutputToFiles);
+        }
 
         Map<String, String> envVars = new HashMap<>();
         var rEnvMap = runContext.render(env).asMap(String.class, String.class);
@@ -262,7 +430,10 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
             envVars.putAll(rEnvMap);
         }
 
-        var rOutputFiles = runContext.render(outputFiles).asList(String.class);
+        var rOutputFiles = new ArrayList<>(runContext.render(outputFiles).asList(String.class));
+        if (rOutputToFiles && rPipeFrom.isEmpty()) {
+            rOutputFiles.add("command_*" + COMMAND_OUTPUT_EXTENSION);
+        }
 
         DockerOptions dockerOptions = runContext.render(docker).as(DockerOptions.class).orElse(DockerOptions.builder().build());
         var dockerBuilder = dockerOptions.toBuilder();
@@ -282,6 +453,7 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
 
         ScriptOutput lastOutput = null;
         Map<String, Object> mergedVars = new HashMap<>();
+        Map<String, URI> mergedOutputFiles = new HashMap<>();
 
         for (String wrappedShellCommand : wrappedShellCommands) {
             lastOutput = commandsWrapper
@@ -295,29 +467,204 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
             if (lastOutput.getVars() != null && !lastOutput.getVars().isEmpty()) {
                 mergedVars.putAll(lastOutput.getVars());
             }
+
+            // the container reports its file stats as JSON numbers, parsed as Integer when small; NATIVE reports them as Long
+            if (rOutputToFiles) {
+                mergedVars.replaceAll((name, value) -> name.startsWith("command_") && value instanceof Map<?, ?> stats
+                    && stats.get("size") instanceof Number size && stats.get("lines") instanceof Number lines
+                    ? fileStats(size.longValue(), lines.longValue())
+                    : value
+                );
+            }
+
+            if (lastOutput.getOutputFiles() != null) {
+                mergedOutputFiles.putAll(lastOutput.getOutputFiles());
+            }
         }
 
-        runContext.metric(Counter.of("executed.commands.count", rCommands.size()));
+        if (rPipeFrom.isPresent()) {
+            if (!(mergedVars.get("errors") instanceof Number errors) || !(mergedVars.get("replies") instanceof Number replies)) {
+                throw new IllegalStateException("redis-cli --pipe did not report its errors and replies summary");
+            }
+
+            mergedVars.putAll(pipeOutputs(runContext, errors.longValue(), replies.longValue()));
+        } else {
+            runContext.metric(Counter.of("executed.commands.count", rCommands.size()));
+        }
 
         return lastOutput == null
             ? ScriptOutput.builder().vars(Map.of()).exitCode(0).build()
             : ScriptOutput.builder()
                 .vars(mergedVars)
                 .exitCode(lastOutput.getExitCode())
-                .outputFiles(lastOutput.getOutputFiles())
+                .outputFiles(mergedOutputFiles)
                 .stdOutLineCount(lastOutput.getStdOutLineCount())
                 .stdErrLineCount(lastOutput.getStdErrLineCount())
                 .taskRunner(lastOutput.getTaskRunner())
                 .build();
     }
 
-    private List<String> extractWrappedShellCommands(List<String> rCommands, StringBuilder baseCommand) {
+    private void runNative(
+        RunContext runContext,
+        RedisURI redisURI,
+        boolean jsonOutput,
+        boolean toFiles,
+        List<String> rCommands,
+        Map<String, Object> vars,
+        Map<String, URI> commandOutputFiles
+    ) throws Exception {
+        try (NativeCommandRunner runner = new NativeCommandRunner(redisURI, jsonOutput)) {
+            int idx = 1;
+            for (String redisCommand : rCommands) {
+                String key = "command_" + idx++;
+
+                NativeCommandRunner.Reply reply;
+                if (toFiles) {
+                    Path file = runContext.workingDir().path().resolve(key + COMMAND_OUTPUT_EXTENSION);
+                    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                        reply = runner.run(tokenize(redisCommand), writer);
+                    }
+
+                    vars.put(key, fileStats(Files.size(file), reply.lines()));
+                    commandOutputFiles.put(file.getFileName().toString(), runContext.storage().putFile(file.toFile()));
+                } else {
+                    reply = runner.run(tokenize(redisCommand));
+                    runContext.logger().debug("{}: {}", key, reply.output());
+
+                    vars.put(key, reply.output());
+                }
+
+                if (reply.error()) {
+                    throw new IllegalStateException("Redis CLI command " + key + " failed: " + reply.output());
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> fileStats(long size, long lines) {
+        return Map.of("size", size, "lines", lines);
+    }
+
+    private Map<String, Object> pipeOutputs(RunContext runContext, long errors, long replies) {
+        runContext.metric(Counter.of("pipe.replies.count", replies));
+        runContext.metric(Counter.of("pipe.errors.count", errors));
+
+        if (errors > 0) {
+            throw new IllegalStateException("Mass insertion finished with " + errors + " error(s) out of " + replies + " replies");
+        }
+
+        return Map.of("errors", errors, "replies", replies);
+    }
+
+    private void writePipeRows(RunContext runContext, URI from, RespEncoder encoder) throws Exception {
+        try (var inputStream = new BufferedInputStream(runContext.storage().getFile(from), FileSerde.BUFFER_SIZE)) {
+            String path = from.getPath().toLowerCase(Locale.ROOT);
+
+            if (path.endsWith(".ion")) {
+                FileSerde.read(inputStream, throwConsumer(row -> encoder.write(pipeArguments(row))));
+                return;
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            boolean csv = path.endsWith(".csv");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                encoder.write(csv ? splitCsvLine(line) : tokenize(line));
+            }
+        }
+    }
+
+    private static List<String> pipeArguments(Object row) {
+        if (row instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        if (row instanceof String line) {
+            return tokenize(line);
+        }
+
+        throw new IllegalArgumentException("Mass insertion rows must be a list of arguments or a command line, got: " + row);
+    }
+
+    // package-private for unit testing
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+
+        return fields;
+    }
+
+    // package-private for unit testing
+    static String wrapPipeCommand(StringBuilder baseCommand, String respFile) {
+        return
+            // 1) stream the RESP file through redis-cli, keeping its summary lines
+            "OUT=$(" + baseCommand + " --pipe < " + shellQuote(respFile) + " 2>&1); " +
+                "RC=$?; " +
+                "printf '%s\\n' \"$OUT\"; " +
+
+                // 2) "errors: N, replies: M" is the last line printed by redis-cli --pipe
+                "SUMMARY=$(printf '%s\\n' \"$OUT\" | sed -n 's/^errors: \\([0-9]*\\), replies: \\([0-9]*\\).*$/\\1 \\2/p' | tail -n 1); " +
+
+                // 3) no summary means redis-cli could not even connect: propagate its RC
+                "if [ -z \"$SUMMARY\" ]; then exit $RC; fi; " +
+
+                // 4) redis-cli exits 1 on error replies; report the counts and let the task decide
+                "set -- $SUMMARY; " +
+                "printf '::{\"outputs\":{\"errors\":%s,\"replies\":%s}}::\\n' \"$1\" \"$2\"; " +
+                "exit 0";
+    }
+
+    // package-private for unit testing
+    static List<String> extractWrappedShellCommands(List<String> rCommands, StringBuilder baseCommand, boolean singleScript, boolean toFiles) {
         List<String> wrappedShellCommands = new ArrayList<>();
 
         int idx = 1;
         for (String redisCommand : rCommands) {
             String key = "command_" + idx++;
 
+            if (toFiles) {
+                String file = shellQuote(key + COMMAND_OUTPUT_EXTENSION);
+
+                wrappedShellCommands.add(
+                    // 1) stream redis-cli stdout+stderr straight to a file, nothing is buffered in the shell
+                    baseCommand + " " + shellQuoteRedisCommand(redisCommand) + " > " + file + " 2>&1; " +
+                        "RC=$?; " +
+
+                        // 2) same error detection as the buffered mode, grep stops at the first match
+                        "grep -Eiq '^(\\(error\\)|ERR )' " + file + " && RC=1; " +
+
+                        // 3) only the size and line count go through the log marker
+                        "printf '::{\"outputs\":{\"%s\":{\"size\":%s,\"lines\":%s}}}::\\n' \"" + key + "\" $(wc -c < " + file + ") $(wc -l < " + file + "); "
+                );
+                continue;
+            }
+
             String cmd =
                 // 1) run redis-cli, capture stdout+stderr
                 "OUT=$(" + baseCommand + " " + shellQuoteRedisCommand(redisCommand) + " 2>&1); " +
@@ -337,15 +684,21 @@ public class RedisCLI extends Task implements RunnableTask<ScriptOutput>, Namesp
                     "}'); " +
 
                     // 4) print the JSON marker on a single line so TaskLogLineMatcher can parse it
-                    "printf '::{\"outputs\":{\"%s\":\"%s\"}}::\\n' \"" + key + "\" \"$OUT_ESC\"; " +
-
-                    // 5) propagate RC so CommandsWrapper can throw RunnableTaskException
-                    "exit $RC";
+                    "printf '::{\"outputs\":{\"%s\":\"%s\"}}::\\n' \"" + key + "\" \"$OUT_ESC\"; ";
 
             wrappedShellCommands.add(cmd);
         }
 
-        return wrappedShellCommands;
+        if (singleScript) {
+            // 5) one script for all commands: stop at the first failing command and propagate its RC,
+            // exactly as the per-command mode does when CommandsWrapper sees a non-zero exit code
+            return List.of(String.join("if [ $RC -ne 0 ]; then exit $RC; fi; ", wrappedShellCommands) + "exit $RC");
+        }
+
+        // 5) propagate RC so CommandsWrapper can throw RunnableTaskException
+        return wrappedShellCommands.stream()
+            .map(cmd -> cmd + "exit $RC")
+            .toList();
     }
 
     /**
@@ -0,0 +1,88 @@
+package io.kestra.plugin.redis.cli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Streams commands as raw RESP arrays of bulk strings, the wire format read by {@code redis-cli --pipe}.
+ * <p>
+ * Arguments are encoded into a reused scratch buffer (ASCII fast path, UTF-8 fallback) and lengths are written
+ * digit by digit, so encoding a command allocates nothing beyond the arguments themselves.
+ */
+class RespEncoder {
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final OutputStream output;
+    private final byte[] digits = new byte[20];
+    private byte[] buffer = new byte[1024];
+    private long count;
+
+    RespEncoder(OutputStream output) {
+        this.output = output;
+    }
+
+    void write(List<String> arguments) throws IOException {
+        this.output.write('*');
+        this.writeLong(arguments.size());
+        this.output.write(CRLF);
+
+        for (String argument : arguments) {
+            int length = this.encode(argument);
+
+            this.output.write('$');
+            this.writeLong(length);
+            this.output.write(CRLF);
+            this.output.write(this.buffer, 0, length);
+            this.output.write(CRLF);
+        }
+
+        this.count++;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    private int encode(String value) {
+        int length = value.length();
+        this.ensureCapacity(length);
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                this.ensureCapacity(bytes.length);
+                System.arraycopy(bytes, 0, this.buffer, 0, bytes.length);
+
+                return bytes.length;
+            }
+            this.buffer[i] = (byte) c;
+        }
+
+        return length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (this.buffer.length < length) {
+            this.buffer = new byte[Math.max(length, this.buffer.length * 2)];
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == 0) {
+            this.output.write('0');
+            return;
+        }
+
+        int position = this.digits.length;
+        long remaining = value;
+        while (remaining > 0) {
+            this.digits[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+
+        this.output.write(this.digits, position, this.digits.length - position);
+    }
+}
@@ -0,0 +1,172 @@
+package io.kestra.plugin.redis.cli;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * In-process equivalent of {@code redis-cli --pipe}: commands are written to a raw socket as fast as they are
+ * produced while a reader thread counts the replies, and a final {@code ECHO} of a random marker tells the reader
+ * that the last reply has been received.
+ */
+class RespPipe implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int REPLY = 0;
+    private static final int ERROR = 1;
+    private static final int MARKER = 2;
+
+    private final Socket socket;
+
+    private String lastError;
+
+    RespPipe(String host, int port, boolean tls) throws IOException {
+        this.socket = tls ? SSLSocketFactory.getDefault().createSocket(host, port) : new Socket(host, port);
+    }
+
+    Summary run(List<List<String>> handshake, Producer producer) throws Exception {
+        byte[] marker = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+
+        FutureTask<Summary> reader = new FutureTask<>(() -> this.readReplies(handshake.size(), marker));
+        Thread readerThread = new Thread(reader, "redis-cli-pipe-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+
+        try {
+            OutputStream output = new BufferedOutputStream(this.socket.getOutputStream(), BUFFER_SIZE);
+            RespEncoder encoder = new RespEncoder(output);
+
+            for (List<String> command : handshake) {
+                encoder.write(command);
+            }
+
+            producer.produce(encoder);
+
+            encoder.write(List.of("ECHO", new String(marker, StandardCharsets.US_ASCII)));
+            output.flush();
+
+            return reader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            reader.cancel(true);
+        }
+    }
+
+    private Summary readReplies(int handshakeSize, byte[] marker) throws IOException {
+        InputStream input = new BufferedInputStream(this.socket.getInputStream(), BUFFER_SIZE);
+
+        long replies = 0;
+        long errors = 0;
+        String firstError = null;
+
+        for (int index = 0; ; index++) {
+            int reply = this.readReply(input, marker);
+
+            if (reply == MARKER) {
+                return new Summary(errors, replies, firstError);
+            }
+
+            if (index < handshakeSize) {
+                if (reply == ERROR) {
+                    throw new IllegalStateException("Unable to authenticate or select the database: " + this.lastError);
+                }
+                continue;
+            }
+
+            replies++;
+            if (reply == ERROR) {
+                errors++;
+                if (firstError == null) {
+                    firstError = this.lastError;
+                }
+            }
+        }
+    }
+
+    private int readReply(InputStream input, byte[] marker) throws IOException {
+        int type = input.read();
+
+        switch (type) {
+            case -1 -> throw new EOFException("Connection closed by Redis before the last reply was received");
+            case '+', ':' -> {
+                skipLine(input);
+                return REPLY;
+            }
+            case '-' -> {
+                this.lastError = readLine(input);
+                return ERROR;
+            }
+            case '$' -> {
+                long length = Long.parseLong(readLine(input));
+                if (length < 0) {
+                    return REPLY;
+                }
+
+                if (marker != null && length == marker.length) {
+                    byte[] data = input.readNBytes(marker.length);
+                    input.skipNBytes(2);
+
+                    return Arrays.equals(data, marker) ? MARKER : REPLY;
+                }
+
+                input.skipNBytes(length + 2);
+                return REPLY;
+            }
+            case '*' -> {
+                long count = Long.parseLong(readLine(input));
+                for (long i = 0; i < count; i++) {
+                    // nested replies are never the marker, and errors inside them (EXEC) do not fail the command
+                    this.readReply(input, null);
+                }
+                return REPLY;
+            }
+            default -> throw new IOException("Unexpected RESP type '" + (char) type + "'");
+        }
+    }
+
+    private static void skipLine(InputStream input) throws IOException {
+        int c;
+        while ((c = input.read()) != '\n') {
+            if (c == -1) {
+                throw new EOFException("Connection closed by Redis in the middle of a reply");
+            }
+        }
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = input.read()) != '\r') {
+            if (c == -1) {
+                throw new EOFException("Connection closed by Redis in the middle of a reply");
+            }
+            line.append((char) c);
+        }
+        input.skipNBytes(1);
+
+        return line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+
+    @FunctionalInterface
+    interface Producer {
+        void produce(RespEncoder encoder) throws Exception;
+    }
+
+    record Summary(long errors, long replies, String firstError) {
+    }
+}
@@ -1,16 +1,25 @@
 package io.kestra.plugin.redis.json;
 
+import java.time.Duration;
 import java.util.List;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.NearCache;
+import io.kestra.plugin.redis.NearCacheInterface;
+import io.kestra.plugin.redis.ReadFromInterface;
+import io.kestra.plugin.redis.models.ReadFromType;
 
 import io.lettuce.core.json.JsonPath;
+import io.lettuce.core.json.JsonValue;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -45,9 +54,67 @@ import lombok.experimental.SuperBuilder;
                     key: "{{ inputs.key_name }}"
                 """
         )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        ),
+        @Metric(
+            name = "near.cache.hits.count",
+            type = Counter.TYPE,
+            unit = "reads",
+            description = "Number of reads served by the near cache, when it is enabled."
+        ),
+        @Metric(
+            name = "near.cache.misses.count",
+            type = Counter.TYPE,
+            unit = "reads",
+            description = "Number of reads loaded from Redis into the near cache, when it is enabled."
+        ),
+        @Metric(
+            name = "near.cache.invalidations.count",
+            type = Counter.TYPE,
+            unit = "keys",
+            description = "Number of invalidations pushed by Redis to the near cache since its previous read."
+        )
     }
 )
-public class Get extends AbstractRedisConnection implements RunnableTask<Get.Output> {
+public class Get extends AbstractRedisConnection implements RunnableTask<Get.Output>, ReadFromInterface, NearCacheInterface {
     @PluginProperty(group = "main")
     @Schema(
         title = "Redis key to read",
@@ -72,29 +139,56 @@ public class Get extends AbstractRedisConnection implements RunnableTask<Get.Out
     @Builder.Default
     private Property<String> path = Property.ofValue("$");
 
-    @Override
-    public Output run(RunContext runContext) throws Exception {
-        try (RedisFactory factory = this.redisFactory(runContext)) {
-            final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
-            String renderedPath = runContext.render(this.path).as(String.class).orElse("$");
+    @Builder.Default
+    private Property<ReadFromType> readFrom = Property.ofValue(ReadFromType.UPSTREAM);
 
-            Object result = factory.getSyncCommands().jsonGet(renderedKey, JsonPath.of(renderedPath)).getFirst().toObject(Object.class);
+    private Property<Duration> maxReplicationWait;
 
-            if (result instanceof List<?> list && list.size() == 1) {
-                result = list.getFirst();
-            }
+    @Builder.Default
+    private Property<Boolean> nearCache = Property.ofValue(false);
+
+    @Builder.Default
+    private Property<Long> nearCacheMaxBytes = Property.ofValue(NearCacheInterface.DEFAULT_MAX_BYTES);
 
-            if (result == null && runContext.render(failedOnMissing).as(Boolean.class).orElseThrow()) {
-                throw new NullPointerException("Missing keys '" + renderedKey + "'");
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
+        String renderedPath = runContext.render(this.path).as(String.class).orElse("$");
+
+        List<JsonValue> values;
+        if (runContext.render(this.nearCache).as(Boolean.class).orElse(false)) {
+            long rMaxBytes = runContext.render(this.nearCacheMaxBytes).as(Long.class).orElse(NearCacheInterface.DEFAULT_MAX_BYTES);
+            NearCache.Stats stats = new NearCache.Stats();
+            values = NearCache.of(runContext, this, rMaxBytes).get(
+                stats,
+                renderedKey,
+                "JSON.GET " + renderedPath,
+                commands -> commands.jsonGet(renderedKey, JsonPath.of(renderedPath)),
+                list -> list.stream().mapToLong(value -> String.valueOf(value).length()).sum()
+            );
+            stats.report(runContext);
+        } else {
+            try (RedisFactory factory = this.redisFactory(runContext)) {
+                values = factory.readCommands(renderedKey).jsonGet(renderedKey, JsonPath.of(renderedPath));
             }
+        }
 
-            runContext.logger().info("Result: {}", result);
+        Object result = values.getFirst().toObject(Object.class);
 
-            return Output.builder()
-                .data(result)
-                .key(renderedKey)
-                .build();
+        if (result instanceof List<?> list && list.size() == 1) {
+            result = list.getFirst();
         }
+
+        if (result == null && runContext.render(failedOnMissing).as(Boolean.class).orElseThrow()) {
+            throw new NullPointerException("Missing keys '" + renderedKey + "'");
+        }
+
+        runContext.logger().info("Result: {}", result);
+
+        return Output.builder()
+            .data(result)
+            .key(renderedKey)
+            .build();
     }
 
     @Builder
@@ -2,8 +2,11 @@ package io.kestra.plugin.redis.json;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -56,6 +59,46 @@ import lombok.extern.jackson.Jacksonized;
                       }
                 """
         )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
     }
 )
 public class Set extends AbstractRedisConnection implements RunnableTask<Set.Output> {
@@ -105,7 +148,8 @@ public class Set extends AbstractRedisConnection implements RunnableTask<Set.Out
         try (RedisFactory factory = this.redisFactory(runContext)) {
 
             String key = runContext.render(this.key).as(String.class).orElseThrow();
-            String value = SerdeType.JSON.serialize(runContext.render(this.value).as(Object.class).orElseThrow());
+            Object rValue = runContext.render(this.value).as(Object.class).orElseThrow();
+            String value = factory.serde(() -> SerdeType.JSON.serialize(rValue));
 
             String renderedPath = runContext.render(this.path).as(String.class).orElse("$");
 
@@ -0,0 +1,18 @@
+package io.kestra.plugin.redis.list;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "Order in which several lists are drained"
+)
+public enum KeyOrder {
+    /**
+     * Always pop from the first non-empty list in the given order, so earlier keys are drained first.
+     */
+    PRIORITY,
+
+    /**
+     * Start each pop after the list popped last, so every non-empty list gets its turn.
+     */
+    ROUND_ROBIN
+}
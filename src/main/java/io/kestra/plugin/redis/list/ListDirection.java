@@ -0,0 +1,18 @@
+package io.kestra.plugin.redis.list;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "End of the list a command works on"
+)
+public enum ListDirection {
+    /**
+     * The head of the list: `LPUSH`, `LPOP`.
+     */
+    LEFT,
+
+    /**
+     * The tail of the list: `RPUSH`, `RPOP`.
+     */
+    RIGHT
+}
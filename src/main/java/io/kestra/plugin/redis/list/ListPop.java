@@ -1,33 +1,45 @@
 package io.kestra.plugin.redis.list;
 
-import java.io.*;
 import java.net.URI;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.redis.AbstractRedisConnection;
 import io.kestra.plugin.redis.models.SerdeType;
 
+import io.lettuce.core.KeyScanArgs;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LMPopArgs;
+import io.lettuce.core.cluster.SlotHash;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-
-import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -36,7 +48,13 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 @NoArgsConstructor
 @Schema(
     title = "Pop elements from a Redis list",
-    description = "Consumes list items with repeated `LPOP` calls in batches (default batch size 100) until `maxRecords` or `maxDuration` is reached, then writes the results to Kestra internal storage."
+    description = "Consumes list items in batches of `count` (default 100) until `maxRecords` or `maxDuration` is reached, then writes the results to Kestra internal storage. "
+        + "Items are popped from the head of the list with `LPOP`, or from its tail with `RPOP` when `direction` is RIGHT. "
+        + "With `keys` or `keyPattern`, each batch is popped from several lists at once with `LMPOP`, following `keyOrder`: PRIORITY drains the first non-empty list, ROUND_ROBIN moves on to the next one after each pop; "
+        + "on a cluster, keys spread over several slots are popped one by one in the same order. "
+        + "The next batch is popped while the previous one is decoded and written. "
+        + "When decoding or writing fails, the popped elements that were not written are pushed back to the side of the list they were popped from, in their original order; "
+        + "elements prefetched when the task is killed are lost."
 )
 @Plugin(
     examples = {
@@ -56,6 +74,23 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
                     maxDuration: PT10S
                     count: 50
                 """
+        ),
+        @Example(
+            title = "Drain sharded queues in turn over one connection.",
+            full = true,
+            code = """
+                id: redis_list_pop_shards
+                namespace: company.team
+
+                tasks:
+                  - id: list_pop
+                    type: io.kestra.plugin.redis.list.ListPop
+                    url: redis://:redis@localhost:6379/0
+                    keyPattern: "queue:shard:*"
+                    keyOrder: ROUND_ROBIN
+                    maxRecords: 1000
+                    maxDuration: PT30S
+                """
         )
     },
     metrics = {
@@ -64,14 +99,66 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
             type = Counter.TYPE,
             unit = "records",
             description = "Number of records retrieved from Redis List."
+        ),
+        @Metric(
+            name = "output.files.count",
+            type = Counter.TYPE,
+            unit = "files",
+            description = "Number of files written to Kestra internal storage."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
         )
     },
     aliases = "io.kestra.plugin.redis.ListPop"
 )
 public class ListPop extends AbstractRedisConnection implements RunnableTask<ListPop.Output>, ListPopInterface {
+    private static final int PREFETCH = 2;
 
     private Property<String> key;
 
+    private Property<List<String>> keys;
+
+    private Property<String> keyPattern;
+
+    @Builder.Default
+    private Property<KeyOrder> keyOrder = Property.ofValue(KeyOrder.PRIORITY);
+
     @Schema(
         title = "Serialization format",
         description = "Defaults to STRING; controls how items are decoded."
@@ -80,6 +167,9 @@ public class ListPop extends AbstractRedisConnection implements RunnableTask<Lis
     @NotNull
     private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
 
+    @Builder.Default
+    private Property<ListDirection> direction = Property.ofValue(ListDirection.LEFT);
+
     private Property<Integer> maxRecords;
 
     private Property<Duration> maxDuration;
@@ -87,12 +177,27 @@ public class ListPop extends AbstractRedisConnection implements RunnableTask<Lis
     @Builder.Default
     private Property<Integer> count = Property.ofValue(100);
 
+    @PluginProperty(group = "destination")
+    @Schema(
+        title = "Maximum records per output file",
+        description = "Starts a new file once this many records were written. Each full file is uploaded in the background while popping continues, "
+            + "and all of them are listed in `uris`, in order. Without it (or `maxBytesPerFile`), a single file is uploaded at the end."
+    )
+    private Property<@Min(1) Integer> maxRecordsPerFile;
+
+    @PluginProperty(group = "destination")
+    @Schema(
+        title = "Maximum bytes per output file",
+        description = "Starts a new file once the current one reaches this size, checked after each popped batch, so a file can exceed it by up to one batch. "
+            + "Each full file is uploaded in the background while popping continues."
+    )
+    private Property<@Min(1) Long> maxBytesPerFile;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         try (RedisFactory factory = this.redisFactory(runContext)) {
-            final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
-
-            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            final List<String> renderedKeys = this.keys(runContext, factory);
+            final boolean multiKey = runContext.render(this.key).as(String.class).isEmpty();
 
             if (
                 runContext.render(this.maxDuration).as(Duration.class).isEmpty() &&
@@ -101,41 +206,221 @@ public class ListPop extends AbstractRedisConnection implements RunnableTask<Lis
                 throw new IllegalArgumentException("maxDuration or maxRecords must be set to avoid infinite loop");
             }
 
-            try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
-                AtomicInteger total = new AtomicInteger();
-                ZonedDateTime started = ZonedDateTime.now();
+            final Integer renderedMaxRecordsPerFile = runContext.render(this.maxRecordsPerFile).as(Integer.class).orElse(null);
+            final Long renderedMaxBytesPerFile = runContext.render(this.maxBytesPerFile).as(Long.class).orElse(null);
 
-                boolean empty;
-                do {
-                    List<String> data = factory.getSyncCommands().lpop(renderedKey, runContext.render(this.count).as(Integer.class).orElse(100));
-                    empty = data.isEmpty();
+            try (RotatingIonWriter writer = new RotatingIonWriter(runContext, renderedMaxRecordsPerFile, renderedMaxBytesPerFile)) {
+                int total = this.pop(runContext, factory, renderedKeys, writer);
+                List<URI> uris = writer.finish();
+
+                String keyTag = multiKey ? runContext.render(this.keyPattern).as(String.class).orElse(String.join(",", renderedKeys)) : renderedKeys.getFirst();
+                runContext.metric(Counter.of("popped.records.count", total, "key", keyTag));
+                runContext.metric(Counter.of("output.files.count", uris.size(), "key", keyTag));
+
+                return Output.builder().uri(uris.getFirst()).uris(uris).count(total).build();
+            }
+        }
+    }
 
-                    var flux = Flux
-                        .fromIterable(data)
-                        .map(
-                            throwFunction(
-                                str -> runContext
-                                    .render(this.serdeType)
-                                    .as(SerdeType.class)
-                                    .orElse(SerdeType.STRING)
-                                    .deserialize(str)
-                            )
-                        );
+    /**
+     * Pops the keys until the task limits are reached and writes the decoded values, returning how many were written.
+     * Package-private so that the benchmarks measure this very loop.
+     */
+    int pop(RunContext runContext, RedisFactory factory, List<String> renderedKeys, RotatingIonWriter writer) throws Exception {
+        final boolean multiKey = runContext.render(this.key).as(String.class).isEmpty();
+        final KeyOrder renderedKeyOrder = runContext.render(this.keyOrder).as(KeyOrder.class).orElse(KeyOrder.PRIORITY);
+        final SerdeType renderedSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+        final int renderedCount = runContext.render(this.count).as(Integer.class).orElse(100);
+        // LMPOP needs all its keys in one slot on a cluster, otherwise keys are popped one by one in the same order
+        final boolean crossSlot = factory.isCluster() && renderedKeys.stream().map(SlotHash::getSlot).distinct().count() > 1;
+        final boolean left = runContext.render(this.direction).as(ListDirection.class).orElse(ListDirection.LEFT) == ListDirection.LEFT;
 
-                    Mono<Long> longMono = FileSerde.writeAll(output, flux);
+        // the pops run on a background thread, at most PREFETCH batches ahead of the decoding and writing below,
+        // so that waiting for Redis overlaps with the CPU and disk work instead of alternating with it
+        BlockingQueue<Popped> batches = new ArrayBlockingQueue<>(PREFETCH);
+        ExecutorService popper = Executors.newSingleThreadExecutor(runnable -> Thread.ofPlatform().daemon().name("redis-list-pop-prefetch").unstarted(runnable));
+        AtomicBoolean stopped = new AtomicBoolean();
 
-                    total.addAndGet(longMono.block().intValue());
-                } while (!this.ended(runContext, empty, total, started));
+        try {
+            popper.submit(() -> {
+                try {
+                    AtomicInteger popped = new AtomicInteger();
+                    ZonedDateTime started = ZonedDateTime.now();
+                    int next = 0;
 
-                output.flush();
+                    boolean empty;
+                    do {
+                        Popped batch;
+                        if (!multiKey) {
+                            List<String> data = left
+                                ? factory.getSyncCommands().lpop(renderedKeys.getFirst(), renderedCount)
+                                : factory.getSyncCommands().rpop(renderedKeys.getFirst(), renderedCount);
+                            batch = new Popped(null, data, null);
+                        } else {
+                            String[] ordered = rotate(renderedKeys, renderedKeyOrder == KeyOrder.ROUND_ROBIN ? next : 0);
+                            KeyValue<String, List<String>> data;
+                            if (renderedKeys.isEmpty()) {
+                                data = null;
+                            } else if (crossSlot) {
+                                data = popFirst(factory, ordered, left, renderedCount);
+                            } else {
+                                data = factory.getSyncCommands().lmpop((left ? LMPopArgs.Builder.left() : LMPopArgs.Builder.right()).count(renderedCount), ordered);
+                            }
 
-                runContext.metric(Counter.of("popped.records.count", total.get(), "key", renderedKey));
+                            boolean none = data == null || !data.hasValue() || data.getValue().isEmpty();
+                            if (!none) {
+                                next = renderedKeys.indexOf(data.getKey()) + 1;
+                            }
+                            batch = none ? new Popped(null, List.of(), null) : new Popped(data.getKey(), data.getValue(), null);
+                        }
+                        empty = batch.values().isEmpty();
+                        popped.addAndGet(batch.values().size());
 
-                return Output.builder().uri(runContext.storage().putFile(tempFile)).count(total.get()).build();
+                        batches.put(batch);
+                    } while (!stopped.get() && !this.ended(runContext, empty, popped, started));
+
+                    batches.put(Popped.END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    try {
+                        // the writer always drains the queue, so this only waits for room
+                        batches.put(new Popped(null, List.of(), e));
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            // every popped batch is drained and written, including the ones prefetched when the limits were reached
+            int total = 0;
+            Popped batch = batches.take();
+            try {
+                for (; batch != Popped.END; batch = batches.take()) {
+                    if (batch.error() != null) {
+                        throw batch.error();
+                    }
+
+                    List<Object> records = new ArrayList<>(batch.values().size());
+                    for (String str : batch.values()) {
+                        Object value = factory.serde(() -> renderedSerdeType.deserialize(str));
+                        records.add(multiKey ? record(batch.key(), value) : value);
+                    }
+
+                    writer.write(records);
+                    total += records.size();
+                }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                // let the pop in progress complete rather than interrupting it, then return what was not written
+                stopped.set(true);
+                List<Popped> unwritten = new ArrayList<>(List.of(batch));
+                popper.shutdown();
+                while (!popper.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+                    batches.drainTo(unwritten);
+                }
+                batches.drainTo(unwritten);
+
+                pushBack(factory, multiKey ? null : renderedKeys.getFirst(), left, unwritten, e);
+                throw e;
+            }
+
+            return total;
+        } finally {
+            popper.shutdownNow();
+        }
+    }
+
+    private List<String> keys(RunContext runContext, RedisFactory factory) throws IllegalVariableEvaluationException {
+        Optional<String> renderedKey = runContext.render(this.key).as(String.class);
+        List<String> renderedKeys = runContext.render(this.keys).asList(String.class);
+        Optional<String> renderedKeyPattern = runContext.render(this.keyPattern).as(String.class);
+
+        long defined = (renderedKey.isPresent() ? 1 : 0) + (renderedKeys.isEmpty() ? 0 : 1) + (renderedKeyPattern.isPresent() ? 1 : 0);
+        if (defined != 1) {
+            throw new IllegalArgumentException("Exactly one of key, keys or keyPattern must be set");
+        }
+
+        if (renderedKey.isPresent()) {
+            return List.of(renderedKey.get());
+        }
+
+        if (renderedKeyPattern.isEmpty()) {
+            return renderedKeys;
+        }
+
+        TreeSet<String> matching = new TreeSet<>();
+        KeyScanArgs scanArgs = KeyScanArgs.Builder.matches(renderedKeyPattern.get()).limit(1000).type("list");
+        KeyScanCursor<String> cursor = factory.getSyncCommands().scan(scanArgs);
+        matching.addAll(cursor.getKeys());
+        while (!cursor.isFinished()) {
+            cursor = factory.getSyncCommands().scan(cursor, scanArgs);
+            matching.addAll(cursor.getKeys());
+        }
+
+        return new ArrayList<>(matching);
+    }
+
+    private static KeyValue<String, List<String>> popFirst(RedisFactory factory, String[] keys, boolean left, int count) {
+        for (String key : keys) {
+            List<String> values = left ? factory.getSyncCommands().lpop(key, count) : factory.getSyncCommands().rpop(key, count);
+            if (!values.isEmpty()) {
+                return KeyValue.just(key, values);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Pushes the popped values back to the side of the list they were popped from, newest batch first, so that the list
+     * reads as before the pops. A failed push is attached to the failure that caused it.
+     */
+    private static void pushBack(RedisFactory factory, String key, boolean left, List<Popped> unwritten, Exception failure) {
+        for (Popped batch : unwritten.reversed()) {
+            if (batch.values().isEmpty()) {
+                continue;
+            }
+
+            String target = batch.key() != null ? batch.key() : key;
+            String[] values = batch.values().reversed().toArray(new String[0]);
+            try {
+                if (left) {
+                    factory.getSyncCommands().lpush(target, values);
+                } else {
+                    factory.getSyncCommands().rpush(target, values);
+                }
+            } catch (RuntimeException e) {
+                failure.addSuppressed(e);
             }
         }
     }
 
+    private static String[] rotate(List<String> keys, int from) {
+        String[] rotated = new String[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            rotated[i] = keys.get((from + i) % keys.size());
+        }
+
+        return rotated;
+    }
+
+    /**
+     * One popped batch handed from the prefetching thread to the writing one, or the error that stopped the pops.
+     */
+    private record Popped(String key, List<String> values, Exception error) {
+        static final Popped END = new Popped(null, List.of(), null);
+    }
+
+    private static Map<String, Object> record(String key, Object value) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("key", key);
+        record.put("value", value);
+
+        return record;
+    }
+
     @SuppressWarnings("RedundantIfStatement")
     private boolean ended(RunContext runContext, boolean empty, AtomicInteger count, ZonedDateTime start) throws IllegalVariableEvaluationException {
         if (empty) {
@@ -160,8 +445,14 @@ public class ListPop extends AbstractRedisConnection implements RunnableTask<Lis
         private Integer count;
 
         @Schema(
-            title = "URI of a Kestra internal storage file"
+            title = "URI of a Kestra internal storage file",
+            description = "The first file when the output was split with `maxRecordsPerFile` or `maxBytesPerFile`."
         )
         private URI uri;
+
+        @Schema(
+            title = "URIs of all the Kestra internal storage files, in the order they were written"
+        )
+        private List<URI> uris;
     }
 }
@@ -5,7 +5,6 @@ import io.kestra.core.models.property.Property;
 import io.kestra.plugin.redis.models.SerdeType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
 
 public interface ListPopBaseInterface {
     @PluginProperty(group = "main")
@@ -13,7 +12,6 @@ public interface ListPopBaseInterface {
         title = "Redis list key",
         description = "Rendered key passed to `LPOP`."
     )
-    @NotNull
     Property<String> getKey();
 
     @PluginProperty(group = "main")
@@ -22,4 +20,11 @@ public interface ListPopBaseInterface {
         description = "Defaults to STRING; controls how list elements are decoded."
     )
     Property<SerdeType> getSerdeType();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "End of the list to pop from",
+        description = "LEFT (default) uses `LPOP`, RIGHT uses `RPOP`. Pair LEFT with a RIGHT `ListPush` for FIFO order."
+    )
+    Property<ListDirection> getDirection();
 }
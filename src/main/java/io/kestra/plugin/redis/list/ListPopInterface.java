@@ -1,6 +1,7 @@
 package io.kestra.plugin.redis.list;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
@@ -8,6 +9,27 @@ import io.kestra.core.models.property.Property;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 public interface ListPopInterface extends ListPopBaseInterface {
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Redis list keys",
+        description = "Several lists consumed over the same connection with `LMPOP`, instead of `key`. Each record then holds its source `key` and `value`."
+    )
+    Property<List<String>> getKeys();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Redis list key pattern",
+        description = "Glob-style pattern resolved with `SCAN` (list keys only) at the start of each run, instead of `key`. Each record then holds its source `key` and `value`."
+    )
+    Property<String> getKeyPattern();
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Order in which several keys are drained",
+        description = "PRIORITY (default) drains the keys in order; ROUND_ROBIN rotates between non-empty keys after each pop. The keys of a pattern are sorted first."
+    )
+    Property<KeyOrder> getKeyOrder();
+
     @PluginProperty(group = "advanced")
     @Schema(
         title = "Maximum rows to fetch",
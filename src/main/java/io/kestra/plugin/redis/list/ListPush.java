@@ -2,7 +2,10 @@ package io.kestra.plugin.redis.list;
 
 import java.io.BufferedInputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
@@ -10,6 +13,7 @@ import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -18,12 +22,16 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.plugin.redis.AbstractRedisConnection;
 import io.kestra.plugin.redis.models.SerdeType;
 
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
@@ -34,7 +42,8 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 @NoArgsConstructor
 @Schema(
     title = "Push values to a Redis list",
-    description = "LPUSH rendered values to the head of the list; accepts literal lists or a Kestra storage URI, serializing with the selected serde (STRING by default)."
+    description = "LPUSH (or RPUSH with `direction: RIGHT`) rendered values to the list; accepts literal lists or a Kestra storage URI, serializing with the selected serde (STRING by default). "
+        + "With `maxLength`, an `LTRIM` keeping the newest values is pipelined after each batch so the list stays bounded."
 )
 @Plugin(
     examples = {
@@ -53,6 +62,25 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
                       - value1
                       - value2
                 """
+        ),
+        @Example(
+            title = "Append to the tail of a capped FIFO buffer.",
+            full = true,
+            code = """
+                id: redis_list_push_capped
+                namespace: company.team
+
+                tasks:
+                  - id: list_push
+                    type: io.kestra.plugin.redis.list.ListPush
+                    url: redis://:redis@localhost:6379/0
+                    key: buffer
+                    direction: RIGHT
+                    maxLength: 10000
+                    from:
+                      - value1
+                      - value2
+                """
         )
     },
     metrics = {
@@ -61,6 +89,44 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
             type = Counter.TYPE,
             unit = "records",
             description = "Number of records pushed to a Redis list."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
         )
     },
     aliases = "io.kestra.plugin.redis.ListPush"
@@ -103,6 +169,41 @@ public class ListPush extends AbstractRedisConnection implements RunnableTask<Li
     @NotNull
     private Property<@Min(1) Integer> batchSize = Property.ofValue(DEFAULT_BATCH_SIZE);
 
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "End of the list to push to",
+        description = "LEFT (default) uses `LPUSH`, RIGHT uses `RPUSH`. Pair RIGHT with a LEFT `ListPop` for FIFO order."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<ListDirection> direction = Property.ofValue(ListDirection.LEFT);
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Only push to an existing list",
+        description = "Uses `LPUSHX`/`RPUSHX`, so nothing is inserted (and the count is 0) when the key does not exist."
+    )
+    @Builder.Default
+    private Property<Boolean> onlyIfExists = Property.ofValue(false);
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum list length",
+        description = "Trims the list to this many values after each batch, in the same round trip, keeping the values pushed last."
+    )
+    private Property<@Min(1) Long> maxLength;
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Batches in flight",
+        description = "Number of batches sent without waiting for the previous ones to be acknowledged. Defaults to 1, which waits for each batch. "
+            + "Batches are still pipelined on a single connection, which Redis executes in order, so the list order is the same as with 1; "
+            + "raise it to hide the round-trip latency on large imports. If a batch fails, the batches before it may already have been pushed."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<@Min(1) Integer> concurrency = Property.ofValue(1);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         try (RedisFactory factory = this.redisFactory(runContext)) {
@@ -152,21 +253,60 @@ public class ListPush extends AbstractRedisConnection implements RunnableTask<Li
         }
     }
 
-    private Flux<Integer> buildFlowable(Flux<Object> flowable, RunContext runContext, RedisFactory factory) throws Exception {
+    /**
+     * Serializes the rows and pushes them in batches, emitting the number of values inserted per batch.
+     * Package-private so that the benchmarks measure this very pipeline.
+     */
+    Flux<Integer> buildFlowable(Flux<Object> flowable, RunContext runContext, RedisFactory factory) throws Exception {
         String rKey = runContext.render(key).as(String.class).orElseThrow();
         SerdeType rSerde = runContext.render(serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
         int rBatchSize = runContext.render(batchSize).as(Integer.class).orElse(DEFAULT_BATCH_SIZE);
+        boolean left = runContext.render(direction).as(ListDirection.class).orElse(ListDirection.LEFT) == ListDirection.LEFT;
+        boolean rOnlyIfExists = runContext.render(onlyIfExists).as(Boolean.class).orElse(false);
+        Optional<Long> rMaxLength = runContext.render(maxLength).as(Long.class);
+        int rConcurrency = runContext.render(concurrency).as(Integer.class).orElse(1);
+
+        Function<List<String>, Function<RedisClusterAsyncCommands<String, String>, List<? extends RedisFuture<?>>>> batch = values -> commands ->
+        {
+            String[] array = values.toArray(new String[0]);
+            List<RedisFuture<?>> futures = new ArrayList<>();
+            if (rOnlyIfExists) {
+                futures.add(left ? commands.lpushx(rKey, array) : commands.rpushx(rKey, array));
+            } else {
+                futures.add(left ? commands.lpush(rKey, array) : commands.rpush(rKey, array));
+            }
+            // the newest values sit at the end that was pushed to
+            rMaxLength.ifPresent(max -> futures.add(left ? commands.ltrim(rKey, 0, max - 1) : commands.ltrim(rKey, -max, -1)));
+            return futures;
+        };
 
-        return flowable
+        // LPUSH/RPUSH are variadic, so one call per batch preserves the row order while cutting round-trips.
+        Flux<List<String>> batches = flowable
             .map(throwFunction(rSerde::serialize))
-            // LPUSH is variadic, so one call per batch preserves the row order while cutting round-trips.
-            .buffer(rBatchSize)
-            .map(values ->
+            .buffer(rBatchSize);
+
+        if (rConcurrency == 1) {
+            return batches.map(throwFunction(values ->
             {
-                factory.getSyncCommands().lpush(rKey, values.toArray(new String[0]));
+                List<Object> replies = factory.pipeline(batch.apply(values));
+                return inserted(values, replies, rOnlyIfExists);
+            }));
+        }
+
+        // a reply completes on the Netty event loop, where flatMapSequential would request and send the next batch:
+        // publishOn hands the batches to one worker instead, which sends them one after the other so Redis executes
+        // them in order, while up to `concurrency` of them wait for their replies; the counts come back in the same order
+        return batches
+            .publishOn(Schedulers.boundedElastic(), rConcurrency)
+            .flatMapSequential(
+                values -> Mono.fromFuture(() -> factory.<Object>pipelineAsync(batch.apply(values)))
+                    .map(replies -> inserted(values, replies, rOnlyIfExists)),
+                rConcurrency
+            );
+    }
 
-                return values.size();
-            });
+    private static int inserted(List<String> values, List<Object> replies, boolean onlyIfExists) {
+        return onlyIfExists && (Long) replies.getFirst() == 0 ? 0 : values.size();
     }
 
     @Builder
@@ -1,5 +1,7 @@
 package io.kestra.plugin.redis.list;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -7,6 +9,7 @@ import org.reactivestreams.Publisher;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.property.Property;
@@ -17,6 +20,7 @@ import io.kestra.plugin.redis.RedisConnectionInterface;
 import io.kestra.plugin.redis.models.SerdeType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -31,7 +35,9 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 @NoArgsConstructor
 @Schema(
     title = "Realtime trigger from a Redis list",
-    description = "Continuously polls `LPOP` one element at a time (every ~100 ms) and starts one Execution per item. Use [Trigger](https://kestra.io/plugins/plugin-redis/triggers/io.kestra.plugin.redis.list.trigger) for batched polling."
+    description = "Continuously pops up to `batchSize` elements per `LPOP` and starts one Execution per item. "
+        + "Pops again right away while the list has elements, and backs off up to `maxIdleBackoff` while it is empty. "
+        + "Never pops more elements than the executions the scheduler is ready to receive. Use [Trigger](https://kestra.io/plugins/plugin-redis/triggers/io.kestra.plugin.redis.list.trigger) for batched polling."
 )
 @Plugin(
     examples = {
@@ -59,6 +65,10 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Output>, ListPopBaseInterface, RedisConnectionInterface {
     private Property<String> url;
 
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    @NotNull
     private Property<String> key;
 
     @Schema(
@@ -68,6 +78,26 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
     @NotNull
     private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
 
+    @Builder.Default
+    private Property<ListDirection> direction = Property.ofValue(ListDirection.LEFT);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Batch size per pop",
+        description = "Elements drained by each `LPOP`; they are still emitted one Execution each. Defaults to 100."
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> batchSize = Property.ofValue(100);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Maximum wait between pops on an empty list",
+        description = "The wait doubles from 1 ms up to this value while the list stays empty, and drops back to 0 as soon as an element is popped. Defaults to 100 ms."
+    )
+    @Builder.Default
+    private Property<Duration> maxIdleBackoff = Property.ofValue(Duration.ofMillis(100));
+
     @Builder.Default
     @Getter(AccessLevel.NONE)
     private final AtomicBoolean isActive = new AtomicBoolean(true);
@@ -80,9 +110,11 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
     public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) {
         ListPop task = ListPop.builder()
             .url(this.url)
+            .cluster(this.cluster)
             .key(this.key)
-            .count(Property.ofValue(1))
+            .count(this.batchSize)
             .serdeType(this.serdeType)
+            .direction(this.direction)
             .build();
 
         return Flux.from(publisher(task, conditionContext.getRunContext()))
@@ -96,20 +128,30 @@ public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerI
             {
                 try (AbstractRedisConnection.RedisFactory factory = task.redisFactory(runContext)) {
                     String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
+                    SerdeType renderedSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+                    int renderedBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(100);
+                    long maxBackoff = runContext.render(this.maxIdleBackoff).as(Duration.class).orElse(Duration.ofMillis(100)).toMillis();
+                    boolean left = runContext.render(this.direction).as(ListDirection.class).orElse(ListDirection.LEFT) == ListDirection.LEFT;
+                    long backoff = 0;
 
                     while (isActive.get()) {
-                        factory.getSyncCommands().lpop(renderedKey, 1)
-                            .forEach(
-                                throwConsumer(
-                                    s -> fluxSink.next(
-                                        runContext.render(this.serdeType)
-                                            .as(SerdeType.class)
-                                            .orElse(SerdeType.STRING).deserialize(s)
-                                    )
-                                )
-                            );
+                        // popped elements are gone from the list, so only pop what the downstream asked for
+                        int count = (int) Math.min(renderedBatchSize, fluxSink.requestedFromDownstream());
+                        List<String> values = count <= 0
+                            ? List.of()
+                            : left
+                                ? factory.getSyncCommands().lpop(renderedKey, count)
+                                : factory.getSyncCommands().rpop(renderedKey, count);
+                        values.forEach(throwConsumer(s -> fluxSink.next(factory.serde(() -> renderedSerdeType.deserialize(s)))));
+
+                        // keep draining while there is data, back off exponentially while the list is empty or nothing is requested
+                        backoff = values.isEmpty() ? Math.min(maxBackoff, Math.max(1, backoff * 2)) : 0;
+                        if (backoff == 0) {
+                            continue;
+                        }
+
                         try {
-                            Thread.sleep(100);
+                            Thread.sleep(backoff);
                         } catch (InterruptedException e) {
                             Thread.currentThread().interrupt();
                             isActive.set(false); // proactively stop polling
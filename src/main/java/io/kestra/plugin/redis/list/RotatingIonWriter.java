@@ -0,0 +1,147 @@
+package io.kestra.plugin.redis.list;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Writes records to ION files in the working directory, starting a new file once the current one holds
+ * {@code maxRecordsPerFile} records or {@code maxBytesPerFile} bytes, and uploads each full file to the internal storage
+ * on a background thread while the caller keeps writing.
+ * <p>
+ * At most {@link #MAX_PENDING_UPLOADS} files wait for their upload, after which {@link #write} blocks, so a slow storage
+ * bounds the local disk usage instead of letting it grow.
+ */
+class RotatingIonWriter implements Closeable {
+    static final int MAX_PENDING_UPLOADS = 2;
+
+    private final RunContext runContext;
+    private final Integer maxRecordsPerFile;
+    private final Long maxBytesPerFile;
+    private final ExecutorService uploader;
+    private final List<Future<URI>> uploads = new ArrayList<>();
+
+    private File file;
+    private CountingOutputStream output;
+    private int fileRecords;
+
+    RotatingIonWriter(RunContext runContext, Integer maxRecordsPerFile, Long maxBytesPerFile) throws IOException {
+        this.runContext = runContext;
+        this.maxRecordsPerFile = maxRecordsPerFile;
+        this.maxBytesPerFile = maxBytesPerFile;
+        this.uploader = maxRecordsPerFile != null || maxBytesPerFile != null
+            ? Executors.newSingleThreadExecutor(runnable -> Thread.ofPlatform().daemon().name("redis-list-pop-upload").unstarted(runnable))
+            : null;
+
+        this.open();
+    }
+
+    /**
+     * Writes the records in order, rotating the file as many times as needed.
+     */
+    void write(List<Object> records) throws IOException, InterruptedException, ExecutionException {
+        int from = 0;
+        while (from < records.size()) {
+            int to = maxRecordsPerFile == null ? records.size() : Math.min(records.size(), from + maxRecordsPerFile - fileRecords);
+            FileSerde.writeAll(output, Flux.fromIterable(records.subList(from, to))).block();
+            fileRecords += to - from;
+            from = to;
+
+            if (this.full()) {
+                this.rotate();
+            }
+        }
+    }
+
+    /**
+     * Uploads the last file and returns the URIs of all the files, in the order they were written.
+     * The last file is skipped when it is empty, unless it is the only one.
+     */
+    List<URI> finish() throws IOException, InterruptedException, ExecutionException {
+        output.close();
+
+        List<URI> uris = new ArrayList<>(uploads.size() + 1);
+        for (Future<URI> upload : uploads) {
+            uris.add(upload.get());
+        }
+
+        if (fileRecords > 0 || uris.isEmpty()) {
+            uris.add(runContext.storage().putFile(file));
+        } else {
+            Files.deleteIfExists(file.toPath());
+        }
+
+        return uris;
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+        if (uploader != null) {
+            uploader.shutdownNow();
+        }
+    }
+
+    private boolean full() {
+        return (maxRecordsPerFile != null && fileRecords >= maxRecordsPerFile)
+            || (maxBytesPerFile != null && output.count >= maxBytesPerFile);
+    }
+
+    private void rotate() throws IOException, InterruptedException, ExecutionException {
+        output.close();
+
+        // the uploads run in order on one thread, so waiting for the one MAX_PENDING_UPLOADS back bounds those pending
+        if (uploads.size() >= MAX_PENDING_UPLOADS) {
+            uploads.get(uploads.size() - MAX_PENDING_UPLOADS).get();
+        }
+
+        File full = file;
+        uploads.add(uploader.submit(() -> runContext.storage().putFile(full)));
+
+        this.open();
+    }
+
+    private void open() throws IOException {
+        file = runContext.workingDir().createTempFile(".ion").toFile();
+        // counted before the buffer, so that the size limit applies to what was written rather than what was flushed
+        output = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file), FileSerde.BUFFER_SIZE));
+        fileRecords = 0;
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.kestra.plugin.redis.list;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -56,8 +57,18 @@ import lombok.experimental.SuperBuilder;
 public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<ListPop.Output>, ListPopInterface, RedisConnectionInterface {
     private Property<String> url;
 
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
     private Property<String> key;
 
+    private Property<List<String>> keys;
+
+    private Property<String> keyPattern;
+
+    @Builder.Default
+    private Property<KeyOrder> keyOrder = Property.ofValue(KeyOrder.PRIORITY);
+
     @Schema(
         title = "Batch size per evaluation",
         description = "Defaults to 100."
@@ -72,6 +83,9 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @NotNull
     private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
 
+    @Builder.Default
+    private Property<ListDirection> direction = Property.ofValue(ListDirection.LEFT);
+
     private Property<Integer> maxRecords;
 
     private Property<Duration> maxDuration;
@@ -83,11 +97,16 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
 
         ListPop task = ListPop.builder()
             .url(this.url)
+            .cluster(this.cluster)
             .key(this.key)
+            .keys(this.keys)
+            .keyPattern(this.keyPattern)
+            .keyOrder(this.keyOrder)
             .count(this.count)
             .maxRecords(this.maxRecords)
             .maxDuration(this.maxDuration)
             .serdeType(this.serdeType)
+            .direction(this.direction)
             .build();
         ListPop.Output run = task.run(runContext);
 
@@ -0,0 +1,27 @@
+package io.kestra.plugin.redis.models;
+
+import io.lettuce.core.ReadFrom;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "Node the read commands are routed to"
+)
+public enum ReadFromType {
+    UPSTREAM(ReadFrom.UPSTREAM),
+    UPSTREAM_PREFERRED(ReadFrom.UPSTREAM_PREFERRED),
+    REPLICA(ReadFrom.REPLICA),
+    REPLICA_PREFERRED(ReadFrom.REPLICA_PREFERRED),
+    LOWEST_LATENCY(ReadFrom.LOWEST_LATENCY),
+    ANY(ReadFrom.ANY),
+    ANY_REPLICA(ReadFrom.ANY_REPLICA);
+
+    private final ReadFrom readFrom;
+
+    ReadFromType(ReadFrom readFrom) {
+        this.readFrom = readFrom;
+    }
+
+    public ReadFrom toReadFrom() {
+        return this.readFrom;
+    }
+}
@@ -0,0 +1,82 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps keyspace event names to the `notify-keyspace-events` class flags that enable them.
+ */
+final class KeyspaceEvents {
+    static final String KEYSPACE_FLAG = "K";
+    static final String KEYEVENT_FLAG = "E";
+
+    // what the 'A' alias stands for
+    private static final String ALL_CLASSES = "g$lshzxetd";
+
+    private static final Map<String, Character> EVENT_CLASSES = Map.ofEntries(
+        Map.entry("del", 'g'), Map.entry("rename_from", 'g'), Map.entry("rename_to", 'g'), Map.entry("move_from", 'g'),
+        Map.entry("move_to", 'g'), Map.entry("copy_to", 'g'), Map.entry("restore", 'g'), Map.entry("expire", 'g'),
+        Map.entry("persist", 'g'), Map.entry("sortstore", 'g'),
+        Map.entry("set", '$'), Map.entry("setrange", '$'), Map.entry("incrby", '$'), Map.entry("incrbyfloat", '$'),
+        Map.entry("append", '$'),
+        Map.entry("lpush", 'l'), Map.entry("rpush", 'l'), Map.entry("lpop", 'l'), Map.entry("rpop", 'l'),
+        Map.entry("linsert", 'l'), Map.entry("lset", 'l'), Map.entry("lrem", 'l'), Map.entry("ltrim", 'l'),
+        Map.entry("sadd", 's'), Map.entry("srem", 's'), Map.entry("spop", 's'), Map.entry("sinterstore", 's'),
+        Map.entry("sunionstore", 's'), Map.entry("sdiffstore", 's'),
+        Map.entry("hset", 'h'), Map.entry("hincrby", 'h'), Map.entry("hincrbyfloat", 'h'), Map.entry("hdel", 'h'),
+        Map.entry("hexpired", 'h'),
+        Map.entry("zadd", 'z'), Map.entry("zincr", 'z'), Map.entry("zrem", 'z'), Map.entry("zrembyscore", 'z'),
+        Map.entry("zrembyrank", 'z'), Map.entry("zdiffstore", 'z'), Map.entry("zinterstore", 'z'), Map.entry("zunionstore", 'z'),
+        Map.entry("xadd", 't'), Map.entry("xtrim", 't'), Map.entry("xdel", 't'), Map.entry("xsetid", 't'),
+        Map.entry("xgroup-create", 't'), Map.entry("xgroup-createconsumer", 't'), Map.entry("xgroup-delconsumer", 't'),
+        Map.entry("xgroup-destroy", 't'), Map.entry("xgroup-setid", 't'),
+        Map.entry("expired", 'x'),
+        Map.entry("evicted", 'e'),
+        Map.entry("new", 'n'),
+        Map.entry("keymiss", 'm')
+    );
+
+    private KeyspaceEvents() {
+    }
+
+    /**
+     * The flags needed for the given events, plus `K` or `E` depending on the channel family.
+     */
+    static Set<Character> requiredFlags(List<String> events, boolean keyspaceChannels) {
+        Set<Character> flags = new LinkedHashSet<>();
+        flags.add((keyspaceChannels ? KEYSPACE_FLAG : KEYEVENT_FLAG).charAt(0));
+
+        for (String event : events) {
+            Character flag = EVENT_CLASSES.get(event.toLowerCase());
+            if (flag == null) {
+                throw new IllegalArgumentException("Unknown keyspace event '" + event + "', expected one of " + EVENT_CLASSES.keySet().stream().sorted().toList());
+            }
+            flags.add(flag);
+        }
+
+        return flags;
+    }
+
+    /**
+     * The flags of a `notify-keyspace-events` value, with the `A` alias expanded.
+     */
+    static Set<Character> configuredFlags(String configured) {
+        Set<Character> flags = new LinkedHashSet<>();
+        for (char c : (configured == null ? "" : configured).toCharArray()) {
+            if (c == 'A') {
+                ALL_CLASSES.chars().forEach(all -> flags.add((char) all));
+            } else {
+                flags.add(c);
+            }
+        }
+
+        return flags;
+    }
+
+    static String toConfig(Set<Character> flags) {
+        return flags.stream().map(String::valueOf).collect(Collectors.joining());
+    }
+}
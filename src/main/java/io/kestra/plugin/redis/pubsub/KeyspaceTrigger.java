@@ -0,0 +1,441 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.RedisConnectionInterface;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Realtime trigger on Redis keyspace notifications",
+    description = "Subscribes to keyspace notifications and starts an Execution per key event, or per batch of events with `batchSize`. "
+        + "With a `keyPattern`, listens on `__keyspace@<db>__:<pattern>` and keeps the requested `events`; otherwise listens on `__keyevent@<db>__:<event>` for each event. "
+        + "The `notify-keyspace-events` server setting must enable those events: it is checked on start, and updated when `configureNotifications` is true. "
+        + "Notifications are pub/sub messages, so events fired while the trigger is stopped are lost."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Start an execution when a session key expires.",
+            full = true,
+            code = """
+                id: session_expired
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.key }} {{ trigger.event }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.pubsub.KeyspaceTrigger
+                    url: redis://localhost:6379/0
+                    keyPattern: "session:*"
+                    events:
+                      - expired
+                    configureNotifications: true
+                """
+        ),
+        @Example(
+            title = "Collect changed values in batches of up to 500 events.",
+            full = true,
+            code = """
+                id: config_changes
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.count }} changes: {{ trigger.events }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.pubsub.KeyspaceTrigger
+                    url: redis://localhost:6379/0
+                    keyPattern: "config:*"
+                    events:
+                      - set
+                    fetchValue: true
+                    serdeType: JSON
+                    batchSize: 500
+                    batchDuration: PT5S
+                """
+        )
+    }
+)
+public class KeyspaceTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<KeyspaceTrigger.Output>, RedisConnectionInterface {
+    static final List<String> DEFAULT_EVENTS = List.of("set", "del", "expired");
+
+    private Property<String> url;
+
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Key events to listen to",
+        description = "Event names as sent by Redis, such as `set`, `del`, `expired`, `evicted`, `hset` or `lpush`. Defaults to `set`, `del` and `expired`."
+    )
+    @Builder.Default
+    private Property<List<String>> events = Property.ofValue(DEFAULT_EVENTS);
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Key glob",
+        description = "Only keys matching this glob-style pattern. All keys when unset."
+    )
+    private Property<String> keyPattern;
+
+    @PluginProperty(group = "connection")
+    @Schema(
+        title = "Database to watch",
+        description = "Defaults to the database of the URL. Values are fetched from this database too."
+    )
+    private Property<Integer> database;
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Update `notify-keyspace-events` when events are missing",
+        description = "Adds the missing flags with `CONFIG SET` instead of failing. Needs a user allowed to run `CONFIG`."
+    )
+    @Builder.Default
+    private Property<Boolean> configureNotifications = Property.ofValue(false);
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Fetch the current value",
+        description = "Reads string keys with `GET` (pipelined for a batch) when the event is received; null for deleted, expired or non-string keys."
+    )
+    @Builder.Default
+    private Property<Boolean> fetchValue = Property.ofValue(false);
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Serialization format",
+        description = "Defaults to STRING; controls how fetched values are decoded."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Events per execution",
+        description = "Defaults to 1, one Execution per event. Above 1, events are grouped until the batch is full or `batchDuration` elapsed."
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> batchSize = Property.ofValue(1);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Maximum wait for a batch",
+        description = "Defaults to 1 second."
+    )
+    @Builder.Default
+    private Property<Duration> batchDuration = Property.ofValue(Duration.ofSeconds(1));
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Buffer size",
+        description = "Maximum number of notifications waiting until the scheduler is ready for them. Defaults to 1000."
+    )
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> bufferSize = Property.ofValue(1000);
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Overflow policy",
+        description = "Applied when the buffer is full. Defaults to DROP_OLDEST."
+    )
+    @Builder.Default
+    private Property<OverflowPolicy> overflowPolicy = Property.ofValue(OverflowPolicy.DROP_OLDEST);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean isActive = new AtomicBoolean(true);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final CountDownLatch waitForTermination = new CountDownLatch(1);
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        return Flux.from(publisher(conditionContext.getRunContext()))
+            .map((output) -> TriggerService.generateRealtimeExecution(this, conditionContext, context, output));
+    }
+
+    public Publisher<Output> publisher(final RunContext runContext) throws Exception {
+        final String rUrl = runContext.render(this.url).as(String.class).orElseThrow();
+        final int rDatabase = runContext.render(this.database).as(Integer.class).orElse(RedisURI.create(rUrl).getDatabase());
+        final List<String> rEvents = runContext.render(this.events).asList(String.class).stream().map(String::toLowerCase).toList();
+        final Optional<String> rKeyPattern = runContext.render(this.keyPattern).as(String.class);
+        final boolean rFetchValue = runContext.render(this.fetchValue).as(Boolean.class).orElse(false);
+        final SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+        final int rBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(1);
+        final Duration rBatchDuration = runContext.render(this.batchDuration).as(Duration.class).orElse(Duration.ofSeconds(1));
+
+        final List<String> channels = rKeyPattern
+            .map(pattern -> List.of("__keyspace@" + rDatabase + "__:" + pattern))
+            .orElseGet(() -> rEvents.stream().map(event -> "__keyevent@" + rDatabase + "__:" + event).toList());
+
+        if (runContext.render(this.cluster).as(Boolean.class).orElse(false)) {
+            // each node only notifies about its own keys, a cluster would need one subscription per node
+            throw new IllegalArgumentException("Keyspace notifications are not supported in cluster mode");
+        }
+
+        final Subscription subscription = new Subscription(
+            rUrl,
+            false,
+            rKeyPattern.isPresent() ? SubscriptionType.PATTERN : SubscriptionType.CHANNEL,
+            channels,
+            runContext.render(this.bufferSize).as(Integer.class).orElse(1000),
+            runContext.render(this.overflowPolicy).as(OverflowPolicy.class).orElse(OverflowPolicy.DROP_OLDEST)
+        );
+
+        Flux<KeyEvent> events = Flux.create(
+            fluxSink ->
+            {
+                try {
+                    this.checkNotifications(runContext, subscription.commands(rDatabase), rEvents, rKeyPattern.isPresent());
+                    subscription.start();
+
+                    String keyspacePrefix = "__keyspace@" + rDatabase + "__:";
+                    while (isActive.get()) {
+                        // without demand, notifications stay in the subscription buffer where the overflow policy applies
+                        if (fluxSink.requestedFromDownstream() <= 0) {
+                            Thread.sleep(Subscription.IDLE_WAIT);
+                            continue;
+                        }
+
+                        Subscription.Message message = subscription.poll(Duration.ofMillis(100));
+                        if (message == null) {
+                            continue;
+                        }
+
+                        if (rKeyPattern.isPresent()) {
+                            // keyspace channels carry the key in the channel name and the event as payload
+                            if (rEvents.contains(message.payload())) {
+                                fluxSink.next(new KeyEvent(message.channel().substring(keyspacePrefix.length()), message.payload()));
+                            }
+                        } else {
+                            String event = message.channel().substring(message.channel().lastIndexOf(':') + 1);
+                            fluxSink.next(new KeyEvent(message.payload(), event));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    fluxSink.error(e);
+                } finally {
+                    // completing flushes the last batch, the subscription is closed once it is processed
+                    fluxSink.complete();
+                }
+            }
+        );
+
+        return this.outputs(events, subscription, rDatabase, rFetchValue, rSerdeType, rBatchSize, rBatchDuration)
+            .doFinally(signal -> {
+                subscription.close();
+                this.waitForTermination.countDown();
+            });
+    }
+
+    private Flux<Output> outputs(Flux<KeyEvent> events, Subscription subscription, int rDatabase, boolean rFetchValue, SerdeType rSerdeType, int rBatchSize, Duration rBatchDuration) {
+        if (rBatchSize <= 1) {
+            return events.map(throwFunction(event -> {
+                Map<String, Object> record = this.toRecords(subscription, rDatabase, List.of(event), rFetchValue, rSerdeType).getFirst();
+                return Output.builder()
+                    .key(event.key())
+                    .event(event.event())
+                    .value(record.get("value"))
+                    .count(1)
+                    .build();
+            }));
+        }
+
+        return events
+            // fair backpressure: only request the events of the batches the downstream asked for
+            .bufferTimeout(rBatchSize, rBatchDuration, true)
+            // batches flushed by the timer arrive on the parallel scheduler, which must not wait for the values;
+            // a prefetch of one keeps a single batch ahead of the one being fetched
+            .publishOn(Schedulers.boundedElastic(), 1)
+            .map(throwFunction(batch -> Output.builder()
+                .count(batch.size())
+                .events(this.toRecords(subscription, rDatabase, batch, rFetchValue, rSerdeType))
+                .build()
+            ));
+    }
+
+    private void checkNotifications(RunContext runContext, StatefulRedisConnection<String, String> connection, List<String> events, boolean keyspaceChannels) throws Exception {
+        Logger logger = runContext.logger();
+        Set<Character> required = KeyspaceEvents.requiredFlags(events, keyspaceChannels);
+
+        String configured;
+        try {
+            configured = connection.sync().configGet("notify-keyspace-events").get("notify-keyspace-events");
+        } catch (RedisCommandExecutionException e) {
+            // managed services often rename or forbid CONFIG, trust their own settings then
+            logger.warn("Unable to read notify-keyspace-events, make sure it enables '{}': {}", KeyspaceEvents.toConfig(required), e.getMessage());
+            return;
+        }
+
+        Set<Character> flags = KeyspaceEvents.configuredFlags(configured);
+        if (flags.containsAll(required)) {
+            return;
+        }
+
+        flags.addAll(required);
+        String wanted = KeyspaceEvents.toConfig(flags);
+        if (!runContext.render(this.configureNotifications).as(Boolean.class).orElse(false)) {
+            throw new IllegalStateException("notify-keyspace-events is '" + configured + "' but the requested events need '" + wanted
+                + "'; update the Redis configuration or set configureNotifications to true");
+        }
+
+        logger.info("Setting notify-keyspace-events from '{}' to '{}'", configured, wanted);
+        connection.sync().configSet("notify-keyspace-events", wanted);
+    }
+
+    private List<Map<String, Object>> toRecords(Subscription subscription, int database, List<KeyEvent> batch, boolean fetchValue, SerdeType serdeType) throws Exception {
+        List<Map<String, Object>> records = new ArrayList<>(batch.size());
+
+        List<RedisFuture<String>> values = new ArrayList<>();
+        if (fetchValue) {
+            StatefulRedisConnection<String, String> connection = subscription.commands(database);
+            connection.setAutoFlushCommands(false);
+            try {
+                for (KeyEvent event : batch) {
+                    values.add(connection.async().get(event.key()));
+                }
+                connection.flushCommands();
+            } finally {
+                connection.setAutoFlushCommands(true);
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("key", batch.get(i).key());
+            record.put("event", batch.get(i).event());
+            if (fetchValue) {
+                record.put("value", value(values.get(i), serdeType));
+            }
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    private static Object value(RedisFuture<String> future, SerdeType serdeType) throws Exception {
+        try {
+            return serdeType.deserialize(future.get(1, TimeUnit.MINUTES));
+        } catch (ExecutionException e) {
+            // WRONGTYPE for non-string keys
+            if (e.getCause() instanceof RedisCommandExecutionException) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    record KeyEvent(String key, String event) {
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Key that changed",
+            description = "Only set when `batchSize` is 1."
+        )
+        private String key;
+
+        @Schema(
+            title = "Event name",
+            description = "Only set when `batchSize` is 1."
+        )
+        private String event;
+
+        @Schema(
+            title = "Current value of the key",
+            description = "Only set when `batchSize` is 1 and `fetchValue` is true."
+        )
+        private Object value;
+
+        @Schema(
+            title = "Number of events"
+        )
+        private Integer count;
+
+        @Schema(
+            title = "Events of the batch",
+            description = "Only set when `batchSize` is above 1; each one has a `key`, an `event` and, with `fetchValue`, a `value`."
+        )
+        private List<Map<String, Object>> events;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void kill() {
+        stop(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void stop() {
+        stop(false); // must be non-blocking
+    }
+
+    private void stop(boolean wait) {
+        if (!isActive.compareAndSet(true, false)) {
+            return;
+        }
+        if (wait) {
+            try {
+                this.waitForTermination.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
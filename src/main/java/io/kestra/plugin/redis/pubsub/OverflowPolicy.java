@@ -0,0 +1,24 @@
+package io.kestra.plugin.redis.pubsub;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "What happens when messages arrive faster than they are consumed"
+)
+public enum OverflowPolicy {
+    /**
+     * Discard the oldest buffered message to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Stop reading from the connection until there is room again; Redis buffers the messages on its side,
+     * up to its `client-output-buffer-limit pubsub` after which it closes the connection.
+     */
+    BLOCK,
+
+    /**
+     * Fail the subscription.
+     */
+    FAIL
+}
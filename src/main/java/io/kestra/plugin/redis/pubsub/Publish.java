@@ -11,6 +11,7 @@ import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -61,6 +62,44 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
             type = Counter.TYPE,
             unit = "records",
             description = "Number of records published to a Redis channel."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
         )
     },
     aliases = "io.kestra.plugin.redis.Publish"
@@ -134,12 +173,8 @@ public class Publish extends AbstractRedisConnection implements RunnableTask<Pub
             {
                 String channelRendered = runContext.render(this.channel).as(String.class).orElseThrow();
 
-                List<String> values = Collections.singletonList(
-                    runContext.render(serdeType)
-                        .as(SerdeType.class)
-                        .orElse(SerdeType.STRING)
-                        .serialize(row)
-                );
+                SerdeType rSerdeType = runContext.render(serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+                List<String> values = Collections.singletonList(factory.serde(() -> rSerdeType.serialize(row)));
 
                 long result = 0;
                 for (String value : values) {
@@ -0,0 +1,204 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.RedisConnectionInterface;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Realtime trigger from Redis channels",
+    description = "Subscribes to channels, patterns or shard channels on a dedicated pub/sub connection and starts one Execution per message. "
+        + "Received messages wait in a bounded buffer until the scheduler is ready for them; `overflowPolicy` decides what happens when a burst fills it. "
+        + "Pub/sub has no delivery guarantee: messages published while the trigger is stopped are lost."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Start one execution per message published on the `orders.*` channels.",
+            full = true,
+            code = """
+                id: pubsub_listen
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Received '{{ trigger.value }}' on {{ trigger.channel }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.pubsub.RealtimeTrigger
+                    url: redis://localhost:6379/0
+                    channels:
+                      - orders.*
+                    subscriptionType: PATTERN
+                    serdeType: JSON
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Output>, SubscribeInterface, RedisConnectionInterface {
+    private Property<String> url;
+
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    private Property<List<String>> channels;
+
+    @Builder.Default
+    private Property<SubscriptionType> subscriptionType = Property.ofValue(SubscriptionType.CHANNEL);
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> bufferSize = Property.ofValue(1000);
+
+    @Builder.Default
+    private Property<OverflowPolicy> overflowPolicy = Property.ofValue(OverflowPolicy.DROP_OLDEST);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean isActive = new AtomicBoolean(true);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final CountDownLatch waitForTermination = new CountDownLatch(1);
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) {
+        return Flux.from(publisher(conditionContext.getRunContext()))
+            .map((output) -> TriggerService.generateRealtimeExecution(this, conditionContext, context, output));
+    }
+
+    public Publisher<Output> publisher(final RunContext runContext) {
+        return Flux.create(
+            fluxSink ->
+            {
+                try (Subscription subscription = new Subscription(
+                    runContext.render(this.url).as(String.class).orElseThrow(),
+                    runContext.render(this.cluster).as(Boolean.class).orElse(false),
+                    runContext.render(this.subscriptionType).as(SubscriptionType.class).orElse(SubscriptionType.CHANNEL),
+                    runContext.render(this.channels).asList(String.class),
+                    runContext.render(this.bufferSize).as(Integer.class).orElse(1000),
+                    runContext.render(this.overflowPolicy).as(OverflowPolicy.class).orElse(OverflowPolicy.DROP_OLDEST)
+                )) {
+                    SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+                    subscription.start();
+
+                    while (isActive.get()) {
+                        // without demand, messages stay in the subscription buffer where the overflow policy applies
+                        if (fluxSink.requestedFromDownstream() <= 0) {
+                            Thread.sleep(Subscription.IDLE_WAIT);
+                            continue;
+                        }
+
+                        Subscription.Message message = subscription.poll(Duration.ofMillis(100));
+                        if (message != null) {
+                            fluxSink.next(Output.of(
+                                message.channel(),
+                                message.pattern(),
+                                rSerdeType.deserialize(message.payload()),
+                                subscription.received(),
+                                subscription.dropped()
+                            ));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    fluxSink.error(e);
+                } finally {
+                    fluxSink.complete();
+                    this.waitForTermination.countDown();
+                }
+            }
+        );
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Channel the message was published on"
+        )
+        private String channel;
+
+        @Schema(
+            title = "Pattern that matched the channel",
+            description = "Only set with the PATTERN subscription type."
+        )
+        private String pattern;
+
+        @Schema(
+            title = "The value"
+        )
+        private Object value;
+
+        @Schema(
+            title = "Messages received since the trigger started"
+        )
+        private Long receivedCount;
+
+        @Schema(
+            title = "Messages dropped by the overflow policy since the trigger started"
+        )
+        private Long droppedCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void kill() {
+        stop(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void stop() {
+        stop(false); // must be non-blocking
+    }
+
+    private void stop(boolean wait) {
+        if (!isActive.compareAndSet(true, false)) {
+            return;
+        }
+        if (wait) {
+            try {
+                this.waitForTermination.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.io.*;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Collect messages from Redis channels",
+    description = "Subscribes to channels, patterns or shard channels, buffers the messages until `maxRecords` or `maxDuration` is reached, "
+        + "then unsubscribes and writes the decoded values to Kestra internal storage. Messages published outside of that window are not received."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: redis_subscribe
+                namespace: company.team
+
+                tasks:
+                  - id: subscribe
+                    type: io.kestra.plugin.redis.pubsub.Subscribe
+                    url: redis://:redis@localhost:6379/0
+                    channels:
+                      - mych
+                    serdeType: JSON
+                    maxRecords: 1000
+                    maxDuration: PT30S
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "received.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of messages written to the output file."
+        ),
+        @Metric(
+            name = "dropped.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of messages dropped by the overflow policy."
+        )
+    }
+)
+public class Subscribe extends AbstractRedisConnection implements RunnableTask<Subscribe.Output>, SubscribeInterface {
+    private Property<List<String>> channels;
+
+    @Builder.Default
+    private Property<SubscriptionType> subscriptionType = Property.ofValue(SubscriptionType.CHANNEL);
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> bufferSize = Property.ofValue(1000);
+
+    @Builder.Default
+    private Property<OverflowPolicy> overflowPolicy = Property.ofValue(OverflowPolicy.DROP_OLDEST);
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum messages to collect",
+        description = "Stops as soon as this many messages were received."
+    )
+    private Property<Integer> maxRecords;
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Maximum duration to listen",
+        description = "Required, since a quiet channel would otherwise keep the subscription open forever."
+    )
+    @NotNull
+    private Property<Duration> maxDuration;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        final Optional<Integer> rMaxRecords = runContext.render(this.maxRecords).as(Integer.class);
+        final Duration rMaxDuration = runContext.render(this.maxDuration).as(Duration.class)
+            .orElseThrow(() -> new IllegalArgumentException("maxDuration must be set to avoid infinite loop"));
+        final SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        int total = 0;
+        long dropped;
+
+        try (
+            Subscription subscription = new Subscription(
+                runContext.render(this.getUrl()).as(String.class).orElseThrow(),
+                runContext.render(this.getCluster()).as(Boolean.class).orElse(false),
+                runContext.render(this.subscriptionType).as(SubscriptionType.class).orElse(SubscriptionType.CHANNEL),
+                runContext.render(this.channels).asList(String.class),
+                runContext.render(this.bufferSize).as(Integer.class).orElse(1000),
+                runContext.render(this.overflowPolicy).as(OverflowPolicy.class).orElse(OverflowPolicy.DROP_OLDEST)
+            );
+            var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)
+        ) {
+            subscription.start();
+            long deadline = System.nanoTime() + rMaxDuration.toNanos();
+
+            while (rMaxRecords.isEmpty() || total < rMaxRecords.get()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+
+                Subscription.Message message = subscription.poll(Duration.ofNanos(remaining));
+                if (message != null) {
+                    FileSerde.write(output, rSerdeType.deserialize(message.payload()));
+                    total++;
+                }
+            }
+
+            dropped = subscription.dropped();
+            output.flush();
+        }
+
+        String channelTag = String.join(",", runContext.render(this.channels).asList(String.class));
+        runContext.metric(Counter.of("received.records.count", total, "channels", channelTag));
+        if (dropped > 0) {
+            runContext.metric(Counter.of("dropped.records.count", dropped, "channels", channelTag));
+        }
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .count(total)
+            .dropped(dropped)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Number of messages collected"
+        )
+        private Integer count;
+
+        @Schema(
+            title = "Number of messages dropped by the overflow policy"
+        )
+        private Long dropped;
+
+        @Schema(
+            title = "URI of a Kestra internal storage file"
+        )
+        private URI uri;
+    }
+}
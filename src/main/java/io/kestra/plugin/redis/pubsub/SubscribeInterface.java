@@ -0,0 +1,48 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.util.List;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public interface SubscribeInterface {
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Channels to subscribe to",
+        description = "Channel names, or glob-style patterns with the PATTERN subscription type."
+    )
+    @NotNull
+    Property<List<String>> getChannels();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Subscription type",
+        description = "CHANNEL (default) uses `SUBSCRIBE`, PATTERN uses `PSUBSCRIBE`, SHARDED uses `SSUBSCRIBE`."
+    )
+    Property<SubscriptionType> getSubscriptionType();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Serialization format",
+        description = "Defaults to STRING; controls how messages are decoded."
+    )
+    Property<SerdeType> getSerdeType();
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Buffer size",
+        description = "Maximum number of received messages waiting to be consumed. Defaults to 1000."
+    )
+    Property<Integer> getBufferSize();
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Overflow policy",
+        description = "Applied when the buffer is full. Defaults to DROP_OLDEST."
+    )
+    Property<OverflowPolicy> getOverflowPolicy();
+}
@@ -0,0 +1,225 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.plugin.redis.RedisClients;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.NettyCustomizer;
+import io.netty.channel.Channel;
+
+/**
+ * A dedicated pub/sub connection feeding a bounded buffer, shared by the subscribe task and triggers.
+ */
+class Subscription implements AutoCloseable {
+    // how long a consumer without downstream demand waits before checking it again
+    static final Duration IDLE_WAIT = Duration.ofMillis(10);
+
+    private final String url;
+    private final ClientResources clientResources;
+    private final AbstractRedisClient redisClient;
+    private final SubscriptionType type;
+    private final List<String> channels;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Message> buffer;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean overflowed = false;
+
+    // BLOCK policy: the sockets of the pub/sub client, and the messages already read while they are paused
+    private final Set<Channel> sockets = ConcurrentHashMap.newKeySet();
+    private final Deque<Message> parked = new ArrayDeque<>();
+    private volatile boolean paused = false;
+
+    private StatefulRedisPubSubConnection<String, String> connection;
+    private RedisClient commandClient;
+    private StatefulRedisConnection<String, String> commandConnection;
+
+    Subscription(String url, boolean cluster, SubscriptionType type, List<String> channels, int bufferSize, OverflowPolicy overflowPolicy) {
+        this.url = url;
+        this.clientResources = DefaultClientResources.builder()
+            .nettyCustomizer(new NettyCustomizer() {
+                @Override
+                public void afterChannelInitialized(Channel channel) {
+                    sockets.add(channel);
+                    channel.closeFuture().addListener(future -> sockets.remove(channel));
+                }
+            })
+            .build();
+        // a cluster pub/sub connection also routes SSUBSCRIBE to the node owning each shard channel
+        this.redisClient = cluster ? RedisClients.cluster(clientResources, url) : RedisClient.create(clientResources, url);
+        this.type = type;
+        this.channels = channels;
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    void start() {
+        connection = redisClient instanceof RedisClusterClient clusterClient ? clusterClient.connectPubSub() : ((RedisClient) redisClient).connectPubSub();
+        connection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                offer(new Message(channel, null, message));
+            }
+
+            @Override
+            public void message(String pattern, String channel, String message) {
+                offer(new Message(channel, pattern, message));
+            }
+
+            @Override
+            public void smessage(String shardChannel, String message) {
+                offer(new Message(shardChannel, null, message));
+            }
+        });
+
+        String[] names = channels.toArray(new String[0]);
+        switch (type) {
+            case CHANNEL -> connection.sync().subscribe(names);
+            case PATTERN -> connection.sync().psubscribe(names);
+            case SHARDED -> connection.sync().ssubscribe(names);
+        }
+    }
+
+    /**
+     * A regular connection on the given database, for the commands a subscribed connection cannot send. It lives on
+     * its own client so it keeps reading replies while the pub/sub connection is paused by the BLOCK policy.
+     */
+    StatefulRedisConnection<String, String> commands(int database) {
+        if (!(redisClient instanceof RedisClient)) {
+            throw new IllegalStateException("Command connections are only available on standalone Redis");
+        }
+
+        if (commandConnection == null) {
+            RedisURI redisUri = RedisURI.create(url);
+            redisUri.setDatabase(database);
+            commandClient = RedisClient.create(redisUri);
+            commandConnection = commandClient.connect();
+        }
+
+        return commandConnection;
+    }
+
+    /**
+     * Waits up to the timeout for the next message, or returns {@code null}.
+     *
+     * @throws IllegalStateException once the buffered messages are consumed after an overflow with the FAIL policy
+     */
+    Message poll(Duration timeout) throws InterruptedException {
+        Message message = buffer.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (paused) {
+            resume();
+        }
+
+        if (message == null && overflowed) {
+            throw new IllegalStateException("Subscription buffer overflowed, " + dropped.get() + " message(s) dropped");
+        }
+
+        return message;
+    }
+
+    long received() {
+        return received.get();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    // called on the connection event loop, one message at a time: it must never block
+    private void offer(Message message) {
+        received.incrementAndGet();
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            park(message);
+            return;
+        }
+
+        if (buffer.offer(message)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!buffer.offer(message)) {
+                    if (buffer.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+            case FAIL -> {
+                dropped.incrementAndGet();
+                overflowed = true;
+            }
+            default -> throw new IllegalStateException("Unexpected overflow policy " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Buffers the message, or keeps it aside and stops reading from the sockets when the buffer is full, so Redis
+     * holds the next messages on its side. The few messages Netty already decoded are kept aside in order too.
+     */
+    private synchronized void park(Message message) {
+        if (parked.isEmpty() && buffer.offer(message)) {
+            return;
+        }
+
+        parked.add(message);
+        if (!paused) {
+            paused = true;
+            autoRead(false);
+        }
+    }
+
+    /**
+     * Moves the messages kept aside into the buffer, and reads from the sockets again once they all fit.
+     */
+    private synchronized void resume() {
+        while (!parked.isEmpty() && buffer.offer(parked.peek())) {
+            parked.poll();
+        }
+
+        if (parked.isEmpty() && paused) {
+            paused = false;
+            autoRead(true);
+        }
+    }
+
+    private void autoRead(boolean autoRead) {
+        sockets.forEach(channel -> channel.config().setAutoRead(autoRead));
+    }
+
+    @Override
+    public void close() {
+        if (connection != null) {
+            connection.close();
+        }
+        if (commandConnection != null) {
+            commandConnection.close();
+            commandClient.shutdown();
+        }
+        redisClient.shutdown();
+        clientResources.shutdown();
+    }
+
+    record Message(String channel, String pattern, String payload) {
+    }
+}
@@ -0,0 +1,23 @@
+package io.kestra.plugin.redis.pubsub;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    title = "How channels are subscribed"
+)
+public enum SubscriptionType {
+    /**
+     * Exact channel names, with `SUBSCRIBE`.
+     */
+    CHANNEL,
+
+    /**
+     * Glob-style patterns such as `orders.*`, with `PSUBSCRIBE`.
+     */
+    PATTERN,
+
+    /**
+     * Shard channels (Redis 7+), with `SSUBSCRIBE`.
+     */
+    SHARDED
+}
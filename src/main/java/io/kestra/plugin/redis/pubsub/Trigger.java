@@ -0,0 +1,128 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.RedisConnectionInterface;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Batch trigger from Redis channels",
+    description = "On each evaluation, subscribes and collects messages until `maxRecords` or `maxDuration` is reached, then starts one Execution with the file of collected values. "
+        + "Pub/sub does not retain messages: those published between two evaluations are lost, so keep `interval` short (default 1 second) and `maxDuration` long enough to cover most of the traffic. "
+        + "Use [RealtimeTrigger](https://kestra.io/plugins/plugin-redis/triggers/io.kestra.plugin.redis.pubsub.realtimetrigger) for per-message executions."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: pubsub_batch
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.uri }} containing {{ trigger.count }} messages"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.pubsub.Trigger
+                    url: redis://localhost:6379/0
+                    channels:
+                      - events
+                    maxRecords: 5000
+                    maxDuration: PT1M
+                """
+        )
+    }
+)
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Subscribe.Output>, SubscribeInterface, RedisConnectionInterface {
+    private Property<String> url;
+
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    private Property<List<String>> channels;
+
+    @Builder.Default
+    private Property<SubscriptionType> subscriptionType = Property.ofValue(SubscriptionType.CHANNEL);
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> bufferSize = Property.ofValue(1000);
+
+    @Builder.Default
+    private Property<OverflowPolicy> overflowPolicy = Property.ofValue(OverflowPolicy.DROP_OLDEST);
+
+    @Schema(
+        title = "Maximum messages per execution"
+    )
+    private Property<Integer> maxRecords;
+
+    @Schema(
+        title = "Maximum duration to listen per evaluation"
+    )
+    @NotNull
+    private Property<Duration> maxDuration;
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        Subscribe task = Subscribe.builder()
+            .url(this.url)
+            .cluster(this.cluster)
+            .channels(this.channels)
+            .subscriptionType(this.subscriptionType)
+            .serdeType(this.serdeType)
+            .bufferSize(this.bufferSize)
+            .overflowPolicy(this.overflowPolicy)
+            .maxRecords(this.maxRecords)
+            .maxDuration(this.maxDuration)
+            .build();
+        Subscribe.Output run = task.run(runContext);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found '{}' messages.", run.getCount());
+        }
+
+        if (run.getCount() == 0) {
+            return Optional.empty();
+        }
+
+        Execution execution = TriggerService.generateExecution(this, conditionContext, context, run);
+
+        return Optional.of(execution);
+    }
+
+    @Builder.Default
+    private final Duration interval = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,315 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.XAddArgs;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Append entries to a Redis stream",
+    description = "Sends one `XADD` per row, pipelined in batches; accepts literal lists or a Kestra storage URI. "
+        + "Map rows become one field per key, other rows are stored in a single `value` field; field values are encoded with the selected serde. "
+        + "Set `maxLength` or `minId` to trim the stream on every append so it stays bounded without a separate trim job."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: redis_stream_add
+                namespace: company.team
+
+                inputs:
+                  - id: events
+                    type: FILE
+
+                tasks:
+                  - id: add
+                    type: io.kestra.plugin.redis.stream.Add
+                    url: redis://:redis@localhost:6379/0
+                    key: audit
+                    from: "{{ inputs.events }}"
+                    serdeType: JSON
+                    maxLength: 100000
+                """
+        ),
+        @Example(
+            full = true,
+            code = """
+                id: redis_stream_add_inline
+                namespace: company.team
+
+                tasks:
+                  - id: add
+                    type: io.kestra.plugin.redis.stream.Add
+                    url: redis://:redis@localhost:6379/0
+                    key: audit
+                    from:
+                      - user: alice
+                        action: login
+                      - user: bob
+                        action: logout
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "added.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of entries appended to the Redis stream."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
+    }
+)
+public class Add extends AbstractRedisConnection implements RunnableTask<Add.Output> {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    static final String VALUE_FIELD = "value";
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Redis stream key",
+        description = "Rendered before appending; the stream is created by the first `XADD`."
+    )
+    @NotNull
+    private Property<String> key;
+
+    @PluginProperty(dynamic = true, group = "main")
+    @Schema(
+        title = "Entries to append",
+        description = "String or list; a string may be parsed as JSON array or treated as a storage URI.",
+        anyOf = { String.class, List.class }
+    )
+    @NotNull
+    private Object from;
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Serialization format",
+        description = "Defaults to STRING; controls how field values are encoded before XADD."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Batch size",
+        description = "Number of `XADD` commands written before waiting for their replies. Defaults to 500."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<@Min(1) Integer> batchSize = Property.ofValue(DEFAULT_BATCH_SIZE);
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum stream length",
+        description = "Trims the stream to about this many entries on each append (`MAXLEN`). Cannot be combined with `minId`."
+    )
+    private Property<@Min(0) Long> maxLength;
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Minimum entry ID to keep",
+        description = "Evicts entries with a lower ID on each append (`MINID`), e.g. `1700000000000` to keep entries newer than that epoch millisecond. Cannot be combined with `maxLength`."
+    )
+    private Property<String> minId;
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Approximate trimming",
+        description = "Trims with `~` (default), letting Redis only drop whole macro nodes, which is much cheaper than exact trimming."
+    )
+    @Builder.Default
+    private Property<Boolean> approximateTrimming = Property.ofValue(true);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        try (RedisFactory factory = this.redisFactory(runContext)) {
+            Object from;
+            if (this.from instanceof String fromString) {
+                String renderedFrom = runContext.render(fromString);
+                try {
+                    from = JacksonMapper.ofJson().readValue(renderedFrom, List.class);
+                } catch (Exception e) {
+                    from = renderedFrom;
+                }
+            } else {
+                from = this.from;
+            }
+
+            XAddArgs args = this.xAddArgs(runContext);
+            Added added;
+
+            if (from instanceof String fromUrl) {
+                URI fromURI = new URI(runContext.render(fromUrl));
+                try (var inputStream = new BufferedInputStream(runContext.storage().getFile(fromURI), FileSerde.BUFFER_SIZE)) {
+                    added = this.add(FileSerde.readAll(inputStream), runContext, factory, args);
+                }
+            } else if (from instanceof List<?> fromList) {
+                Flux<Object> flowable = Flux.fromIterable(fromList)
+                    .map(throwFunction(o -> o instanceof String s ? runContext.render(s) : o));
+                added = this.add(flowable, runContext, factory, args);
+            } else {
+                // should not occur as validation mandates String or List
+                throw new IllegalVariableEvaluationException("Invalid 'from' property type :" + from.getClass());
+            }
+
+            String rKey = runContext.render(key).as(String.class).orElseThrow();
+            runContext.metric(Counter.of("added.records.count", added.count(), "key", rKey));
+
+            return Output.builder()
+                .count(Math.toIntExact(added.count()))
+                .lastId(added.lastId())
+                .build();
+        }
+    }
+
+    private XAddArgs xAddArgs(RunContext runContext) throws IllegalVariableEvaluationException {
+        Optional<Long> rMaxLength = runContext.render(maxLength).as(Long.class);
+        Optional<String> rMinId = runContext.render(minId).as(String.class);
+
+        if (rMaxLength.isPresent() && rMinId.isPresent()) {
+            throw new IllegalArgumentException("maxLength and minId cannot be set together");
+        }
+
+        XAddArgs args = new XAddArgs();
+        rMaxLength.ifPresent(args::maxlen);
+        rMinId.ifPresent(args::minId);
+        if ((rMaxLength.isPresent() || rMinId.isPresent()) && runContext.render(approximateTrimming).as(Boolean.class).orElse(true)) {
+            args.approximateTrimming();
+        }
+
+        return args;
+    }
+
+    private Added add(Flux<Object> flowable, RunContext runContext, RedisFactory factory, XAddArgs args) throws Exception {
+        String rKey = runContext.render(key).as(String.class).orElseThrow();
+        SerdeType rSerde = runContext.render(serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+        int rBatchSize = runContext.render(batchSize).as(Integer.class).orElse(DEFAULT_BATCH_SIZE);
+
+        // only the count and the last ID are kept, so that memory does not grow with the input
+        long count = 0;
+        String lastId = null;
+        for (List<Map<String, String>> bodies : flowable
+            .map(throwFunction(row -> factory.serde(() -> toBody(row, rSerde))))
+            .buffer(rBatchSize)
+            .toIterable()) {
+            List<String> ids = factory.<String>pipeline(commands -> {
+                List<RedisFuture<String>> futures = new ArrayList<>(bodies.size());
+                for (Map<String, String> body : bodies) {
+                    futures.add(commands.xadd(rKey, args, body));
+                }
+                return futures;
+            });
+
+            count += ids.size();
+            lastId = ids.getLast();
+        }
+
+        return new Added(count, lastId);
+    }
+
+    private record Added(long count, String lastId) {
+    }
+
+    static Map<String, String> toBody(Object row, SerdeType serdeType) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        if (row instanceof Map<?, ?> map && !map.isEmpty()) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                body.put(String.valueOf(entry.getKey()), serdeType.serialize(entry.getValue()));
+            }
+        } else {
+            body.put(VALUE_FIELD, serdeType.serialize(row));
+        }
+
+        return body;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Count",
+            description = "Number of entries appended."
+        )
+        private Integer count;
+
+        @Schema(
+            title = "ID of the last appended entry"
+        )
+        private String lastId;
+    }
+}
@@ -0,0 +1,296 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.*;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.Consumer;
+import io.lettuce.core.RedisBusyException;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAutoClaimArgs;
+import io.lettuce.core.XGroupCreateArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.models.stream.ClaimedMessages;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Consume entries from a Redis stream with a consumer group",
+    description = "Reads entries with blocking `XREADGROUP` calls until `maxRecords` or `maxDuration` is reached or no new entry arrives, "
+        + "writes them to Kestra internal storage, then acknowledges all of them with a single `XACK` once the file is stored. "
+        + "Entries left pending by dead consumers can be reclaimed first with `claimMinIdleTime`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: redis_stream_consume
+                namespace: company.team
+
+                tasks:
+                  - id: consume
+                    type: io.kestra.plugin.redis.stream.Consume
+                    url: redis://:redis@localhost:6379/0
+                    key: orders
+                    group: kestra
+                    serdeType: JSON
+                    maxRecords: 1000
+                    maxDuration: PT30S
+                    claimMinIdleTime: PT5M
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "consumed.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of entries read from the Redis stream and acknowledged."
+        ),
+        @Metric(
+            name = "claimed.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of pending entries claimed from other consumers."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
+    }
+)
+public class Consume extends AbstractRedisConnection implements RunnableTask<Consume.Output>, ConsumeInterface {
+    static final String DEFAULT_CONSUMER = "kestra";
+
+    private Property<String> key;
+
+    @NotNull
+    private Property<String> group;
+
+    @Builder.Default
+    private Property<String> consumer = Property.ofValue(DEFAULT_CONSUMER);
+
+    @Builder.Default
+    private Property<String> groupStartId = Property.ofValue("$");
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    private Property<Integer> count = Property.ofValue(100);
+
+    @Builder.Default
+    private Property<Duration> blockDuration = Property.ofValue(Duration.ofSeconds(1));
+
+    private Property<Integer> maxRecords;
+
+    private Property<Duration> maxDuration;
+
+    private Property<Duration> claimMinIdleTime;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        try (RedisFactory factory = this.redisFactory(runContext)) {
+            final String rKey = runContext.render(this.key).as(String.class).orElseThrow();
+            final String rGroup = runContext.render(this.group).as(String.class).orElseThrow();
+            final Consumer<String> rConsumer = Consumer.from(rGroup, runContext.render(this.consumer).as(String.class).orElse(DEFAULT_CONSUMER));
+            final SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+            final int rCount = runContext.render(this.count).as(Integer.class).orElse(100);
+            final Duration rBlockDuration = runContext.render(this.blockDuration).as(Duration.class).orElse(Duration.ofSeconds(1));
+            final Optional<Duration> rClaimMinIdleTime = runContext.render(this.claimMinIdleTime).as(Duration.class);
+
+            if (
+                runContext.render(this.maxDuration).as(Duration.class).isEmpty() &&
+                    runContext.render(this.maxRecords).as(Integer.class).isEmpty()
+            ) {
+                throw new IllegalArgumentException("maxDuration or maxRecords must be set to avoid infinite loop");
+            }
+
+            createGroup(factory, rKey, rGroup, runContext.render(this.groupStartId).as(String.class).orElse("$"));
+
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            List<String> ids = new ArrayList<>();
+            int claimed = 0;
+            // entries deleted while pending are acknowledged but not written, so the count only holds the written ones
+            int written = 0;
+
+            try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                ZonedDateTime started = ZonedDateTime.now();
+
+                if (rClaimMinIdleTime.isPresent()) {
+                    String cursor = "0-0";
+                    do {
+                        ClaimedMessages<String, String> claim = factory.getSyncCommands().xautoclaim(
+                            rKey,
+                            XAutoClaimArgs.Builder.xautoclaim(rConsumer, rClaimMinIdleTime.get(), cursor).count(rCount)
+                        );
+                        int claimedWritten = factory.serde(() -> write(output, claim.getMessages(), rSerdeType, ids));
+                        claimed += claimedWritten;
+                        written += claimedWritten;
+                        cursor = claim.getId();
+                    } while (!"0-0".equals(cursor) && !this.ended(runContext, false, written, started));
+                }
+
+                boolean empty;
+                do {
+                    List<StreamMessage<String, String>> messages = factory.getSyncCommands().xreadgroup(
+                        rConsumer,
+                        XReadArgs.Builder.count(rCount).block(rBlockDuration),
+                        XReadArgs.StreamOffset.lastConsumed(rKey)
+                    );
+                    empty = messages == null || messages.isEmpty();
+
+                    if (!empty) {
+                        written += factory.serde(() -> write(output, messages, rSerdeType, ids));
+                    }
+                } while (!this.ended(runContext, empty, written, started));
+
+                output.flush();
+            }
+
+            URI uri = runContext.storage().putFile(tempFile);
+
+            // only acknowledge once the entries are safely stored, a failure before leaves them pending for XAUTOCLAIM
+            if (!ids.isEmpty()) {
+                factory.getSyncCommands().xack(rKey, rGroup, ids.toArray(new String[0]));
+            }
+
+            runContext.metric(Counter.of("consumed.records.count", written, "key", rKey));
+            if (claimed > 0) {
+                runContext.metric(Counter.of("claimed.records.count", claimed, "key", rKey));
+            }
+
+            return Output.builder().uri(uri).count(written).build();
+        }
+    }
+
+    static void createGroup(RedisFactory factory, String key, String group, String startId) {
+        try {
+            factory.getSyncCommands().xgroupCreate(XReadArgs.StreamOffset.from(key, startId), group, XGroupCreateArgs.Builder.mkstream());
+        } catch (RedisBusyException e) {
+            // BUSYGROUP: the group already exists
+        }
+    }
+
+    static Map<String, Object> toRecord(StreamMessage<String, String> message, SerdeType serdeType) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : message.getBody().entrySet()) {
+            values.put(entry.getKey(), serdeType.deserialize(entry.getValue()));
+        }
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", message.getId());
+        record.put("key", message.getStream());
+        record.put("values", values);
+
+        return record;
+    }
+
+    private static int write(OutputStream output, List<StreamMessage<String, String>> messages, SerdeType serdeType, List<String> ids) throws IOException {
+        int written = 0;
+        for (StreamMessage<String, String> message : messages) {
+            ids.add(message.getId());
+
+            // entries deleted while pending come back without a body, they are only acknowledged
+            if (message.getBody() != null) {
+                FileSerde.write(output, toRecord(message, serdeType));
+                written++;
+            }
+        }
+
+        return written;
+    }
+
+    @SuppressWarnings("RedundantIfStatement")
+    private boolean ended(RunContext runContext, boolean empty, int count, ZonedDateTime start) throws IllegalVariableEvaluationException {
+        if (empty) {
+            return true;
+        }
+        final Optional<Integer> renderedMaxRecords = runContext.render(this.maxRecords).as(Integer.class);
+        if (renderedMaxRecords.isPresent() && count >= renderedMaxRecords.get()) {
+            return true;
+        }
+
+        final Optional<Duration> renderedMaxDuration = runContext.render(this.maxDuration).as(Duration.class);
+
+        return renderedMaxDuration.isPresent() && ZonedDateTime.now().toEpochSecond() > start.plus(renderedMaxDuration.get()).toEpochSecond();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Number of entries consumed",
+            description = "Only the entries written to `uri`; pending entries deleted from the stream are acknowledged but not counted."
+        )
+        private Integer count;
+
+        @Schema(
+            title = "URI of a Kestra internal storage file",
+            description = "One record per entry, with its `id`, stream `key` and decoded field `values`."
+        )
+        private URI uri;
+    }
+}
@@ -0,0 +1,63 @@
+package io.kestra.plugin.redis.stream;
+
+import java.time.Duration;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public interface ConsumeBaseInterface {
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Redis stream key",
+        description = "Rendered key passed to `XREADGROUP` (or `XREAD` without a group)."
+    )
+    @NotNull
+    Property<String> getKey();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Consumer group",
+        description = "Created on first use (with `MKSTREAM`) when it does not exist yet."
+    )
+    Property<String> getGroup();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Consumer name",
+        description = "Defaults to `kestra`. Keep it stable: every distinct name is registered in the group until it is deleted."
+    )
+    Property<String> getConsumer();
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Group start ID",
+        description = "ID the group starts from when it is created: `$` (default) only delivers new entries, `0` delivers the whole stream."
+    )
+    Property<String> getGroupStartId();
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Serialization format",
+        description = "Defaults to STRING; controls how entry field values are decoded."
+    )
+    Property<SerdeType> getSerdeType();
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Batch size per read",
+        description = "`COUNT` of each `XREADGROUP` and `XAUTOCLAIM` call. Defaults to 100."
+    )
+    Property<Integer> getCount();
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Blocking read duration",
+        description = "`BLOCK` of each read call; batch reads stop at the first call that returns nothing after this delay. "
+            + "Defaults to 1 second, and must stay below the connection timeout (60 seconds)."
+    )
+    Property<Duration> getBlockDuration();
+}
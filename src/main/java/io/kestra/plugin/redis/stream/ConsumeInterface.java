@@ -0,0 +1,32 @@
+package io.kestra.plugin.redis.stream;
+
+import java.time.Duration;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface ConsumeInterface extends ConsumeBaseInterface {
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum entries to read",
+        description = "Soft cap evaluated after each read; required when maxDuration is not set."
+    )
+    Property<Integer> getMaxRecords();
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Maximum duration to read",
+        description = "Soft cap evaluated after each read; required when maxRecords is not set."
+    )
+    Property<Duration> getMaxDuration();
+
+    @PluginProperty(group = "reliability")
+    @Schema(
+        title = "Minimum idle time before claiming pending entries",
+        description = "When set, entries delivered to any consumer of the group and left unacknowledged for longer than this "
+            + "(typically by a dead worker) are claimed with `XAUTOCLAIM` and included in the batch before new entries are read."
+    )
+    Property<Duration> getClaimMinIdleTime();
+}
@@ -0,0 +1,295 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.*;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.StreamMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Export a range of a Redis stream",
+    description = "Pages through `XRANGE` (or `XREVRANGE`) between two entry IDs or timestamps and writes the entries to Kestra internal storage. "
+        + "The next page is requested while the current one is written, and at most two pages are held in memory, so streams of any length can be archived."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Archive the entries of the previous day.",
+            full = true,
+            code = """
+                id: redis_stream_export
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.redis.stream.Export
+                    url: redis://:redis@localhost:6379/0
+                    key: audit
+                    start: "{{ trigger.date | dateAdd(-1, 'DAYS') }}"
+                    end: "{{ trigger.date }}"
+                    serdeType: JSON
+
+                triggers:
+                  - id: daily
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 0 * * *"
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "exported.records.count",
+            type = Counter.TYPE,
+            unit = "records",
+            description = "Number of entries read from the Redis stream."
+        ),
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
+    }
+)
+public class Export extends AbstractRedisConnection implements RunnableTask<Export.Output> {
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final Pattern ENTRY_ID = Pattern.compile("\\d+(-\\d+)?");
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Redis stream key"
+    )
+    @NotNull
+    private Property<String> key;
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Start of the range",
+        description = "An entry ID (`1700000000000-0`), a millisecond timestamp, an ISO-8601 date-time, or `-` (default) for the first entry. "
+            + "Inclusive unless an ID is prefixed with `(`."
+    )
+    @Builder.Default
+    private Property<String> start = Property.ofValue("-");
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "End of the range",
+        description = "An entry ID, a millisecond timestamp, an ISO-8601 date-time, or `+` (default) for the last entry. "
+            + "Inclusive unless an ID is prefixed with `(`."
+    )
+    @Builder.Default
+    private Property<String> end = Property.ofValue("+");
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Read from the newest entry",
+        description = "Uses `XREVRANGE` so the file is ordered from `end` down to `start`."
+    )
+    @Builder.Default
+    private Property<Boolean> reverse = Property.ofValue(false);
+
+    @PluginProperty(group = "main")
+    @Schema(
+        title = "Serialization format",
+        description = "Defaults to STRING; controls how entry field values are decoded."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @PluginProperty(group = "execution")
+    @Schema(
+        title = "Page size",
+        description = "`COUNT` of each range call. Defaults to 1000."
+    )
+    @Builder.Default
+    @NotNull
+    private Property<@Min(1) Integer> pageSize = Property.ofValue(DEFAULT_PAGE_SIZE);
+
+    @PluginProperty(group = "advanced")
+    @Schema(
+        title = "Maximum entries to export",
+        description = "No limit by default."
+    )
+    private Property<@Min(1) Integer> maxRecords;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        try (RedisFactory factory = this.redisFactory(runContext)) {
+            final String rKey = runContext.render(this.key).as(String.class).orElseThrow();
+            final boolean rReverse = runContext.render(this.reverse).as(Boolean.class).orElse(false);
+            final SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+            final int rPageSize = runContext.render(this.pageSize).as(Integer.class).orElse(DEFAULT_PAGE_SIZE);
+            final Optional<Integer> rMaxRecords = runContext.render(this.maxRecords).as(Integer.class);
+
+            Range.Boundary<String> lower = boundary(runContext.render(this.start).as(String.class).orElse("-"));
+            Range.Boundary<String> upper = boundary(runContext.render(this.end).as(String.class).orElse("+"));
+
+            File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+            long timeout = factory.getTimeout().toMillis();
+            int total = 0;
+            String lastId = null;
+
+            try (var output = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE)) {
+                RedisFuture<List<StreamMessage<String, String>>> next = this.page(factory, rKey, lower, upper, rReverse, limit(rPageSize, rMaxRecords, total));
+
+                while (next != null) {
+                    List<StreamMessage<String, String>> page = next.get(timeout, TimeUnit.MILLISECONDS);
+                    if (page.isEmpty()) {
+                        break;
+                    }
+
+                    int requested = limit(rPageSize, rMaxRecords, total);
+                    total += page.size();
+                    lastId = page.getLast().getId();
+
+                    // ask for the following page before writing this one, the reply is read while the file is written
+                    if (page.size() == requested && limit(rPageSize, rMaxRecords, total) > 0) {
+                        if (rReverse) {
+                            upper = Range.Boundary.excluding(lastId);
+                        } else {
+                            lower = Range.Boundary.excluding(lastId);
+                        }
+                        next = this.page(factory, rKey, lower, upper, rReverse, limit(rPageSize, rMaxRecords, total));
+                    } else {
+                        next = null;
+                    }
+
+                    for (StreamMessage<String, String> message : page) {
+                        factory.serde(() -> {
+                            FileSerde.write(output, Consume.toRecord(message, rSerdeType));
+                            return null;
+                        });
+                    }
+                }
+
+                output.flush();
+            }
+
+            runContext.metric(Counter.of("exported.records.count", total, "key", rKey));
+
+            return Output.builder()
+                .uri(runContext.storage().putFile(tempFile))
+                .count(total)
+                .lastId(lastId)
+                .build();
+        }
+    }
+
+    private RedisFuture<List<StreamMessage<String, String>>> page(RedisFactory factory, String key, Range.Boundary<String> lower, Range.Boundary<String> upper, boolean reverse, int count) {
+        Range<String> range = Range.from(lower, upper);
+        Limit limit = Limit.from(count);
+
+        return reverse ? factory.getAsyncCommands().xrevrange(key, range, limit) : factory.getAsyncCommands().xrange(key, range, limit);
+    }
+
+    private static int limit(int pageSize, Optional<Integer> maxRecords, int total) {
+        return maxRecords.map(max -> Math.min(pageSize, max - total)).orElse(pageSize);
+    }
+
+    static Range.Boundary<String> boundary(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty() || "-".equals(trimmed) || "+".equals(trimmed)) {
+            return Range.Boundary.unbounded();
+        }
+
+        if (trimmed.startsWith("(") && ENTRY_ID.matcher(trimmed.substring(1)).matches()) {
+            return Range.Boundary.excluding(trimmed.substring(1));
+        }
+
+        if (ENTRY_ID.matcher(trimmed).matches()) {
+            return Range.Boundary.including(trimmed);
+        }
+
+        try {
+            // Redis completes a bare millisecond ID with the lowest or highest sequence depending on the side
+            return Range.Boundary.including(String.valueOf(ZonedDateTime.parse(trimmed).toInstant().toEpochMilli()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid stream range boundary '" + value + "': expected an entry ID, a millisecond timestamp or an ISO-8601 date-time", e);
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Number of entries exported"
+        )
+        private Integer count;
+
+        @Schema(
+            title = "URI of a Kestra internal storage file",
+            description = "One record per entry, with its `id`, stream `key` and decoded field `values`."
+        )
+        private URI uri;
+
+        @Schema(
+            title = "ID of the last exported entry",
+            description = "Pass `(` followed by this ID as `start` of the next export to continue right after it."
+        )
+        private String lastId;
+    }
+}
@@ -0,0 +1,361 @@
+package io.kestra.plugin.redis.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.RedisConnectionInterface;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.Consumer;
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XReadArgs;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Realtime trigger from a Redis stream",
+    description = "Waits for new entries with blocking `XREADGROUP` (or `XREAD` when no group is set) calls and starts one Execution per entry. "
+        + "At most `maxInFlight` entries are read ahead of the executions already started, so a slow consumer holds entries in Redis instead of in memory. "
+        + "With a group, entries are acknowledged with `XACK` once their Execution is emitted and unacknowledged ones are redelivered to the same consumer on restart; "
+        + "without a group, the last emitted ID is saved in the namespace KV store so a restart resumes after it. "
+        + "Use [Trigger](https://kestra.io/plugins/plugin-redis/triggers/io.kestra.plugin.redis.stream.trigger) for batched polling."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Start one execution per stream entry with a consumer group.",
+            full = true,
+            code = """
+                id: stream_realtime
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Received {{ trigger.id }}: {{ trigger.values }}"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.stream.RealtimeTrigger
+                    url: redis://localhost:6379/0
+                    key: orders
+                    group: kestra
+                    serdeType: JSON
+                """
+        )
+    }
+)
+public class RealtimeTrigger extends AbstractTrigger implements RealtimeTriggerInterface, TriggerOutput<RealtimeTrigger.Output>, ConsumeBaseInterface, RedisConnectionInterface {
+    private static final String KV_KEY_PREFIX = "redis_stream_";
+    private static final Duration KV_SAVE_INTERVAL = Duration.ofSeconds(1);
+
+    private Property<String> url;
+
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    private Property<String> key;
+
+    @Schema(
+        title = "Consumer group",
+        description = "Created on first use (with `MKSTREAM`) when it does not exist yet. "
+            + "When unset, entries are read with `XREAD` and the last emitted ID is kept in the flow namespace KV store, "
+            + "under the `redis_stream_<flowId>_<triggerId>` key: it is written when it changed, at most once per second, and on stop, "
+            + "so a restart after a crash may redeliver up to one second of entries."
+    )
+    private Property<String> group;
+
+    @Builder.Default
+    private Property<String> consumer = Property.ofValue(Consume.DEFAULT_CONSUMER);
+
+    @Builder.Default
+    private Property<String> groupStartId = Property.ofValue("$");
+
+    @Schema(
+        title = "Start ID without a group",
+        description = "ID read after on the very first start when no group is set and no ID was saved yet in the "
+            + "`redis_stream_<flowId>_<triggerId>` namespace KV entry: `$` (default) only delivers new entries, `0` delivers the whole stream."
+    )
+    @PluginProperty(group = "advanced")
+    @Builder.Default
+    private Property<String> startId = Property.ofValue("$");
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    private Property<Integer> count = Property.ofValue(10);
+
+    @Builder.Default
+    private Property<Duration> blockDuration = Property.ofValue(Duration.ofSeconds(1));
+
+    @Schema(
+        title = "Maximum entries read ahead of emitted executions",
+        description = "Reading pauses while this many entries are waiting to be turned into executions. Defaults to 100."
+    )
+    @PluginProperty(group = "reliability")
+    @Builder.Default
+    @Min(1)
+    private Property<Integer> maxInFlight = Property.ofValue(100);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean isActive = new AtomicBoolean(true);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private final CountDownLatch waitForTermination = new CountDownLatch(1);
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+
+        Consume task = Consume.builder()
+            .url(this.url)
+            .cluster(this.cluster)
+            .key(this.key)
+            .group(this.group)
+            .build();
+
+        Semaphore inFlight = new Semaphore(runContext.render(this.maxInFlight).as(Integer.class).orElse(100));
+        Queue<String> emitted = new ConcurrentLinkedQueue<>();
+        KVStore kvStore = runContext.namespaceKv(conditionContext.getFlow().getNamespace());
+        String kvKey = KV_KEY_PREFIX + conditionContext.getFlow().getId() + "_" + this.getId();
+
+        // the entry is only marked as emitted once the execution went through the downstream subscriber
+        return Flux.from(publisher(task, runContext, inFlight, emitted, kvStore, kvKey))
+            .concatMap(output -> Mono.just(TriggerService.generateRealtimeExecution(this, conditionContext, context, output))
+                .doAfterTerminate(() -> {
+                    emitted.add(output.getId());
+                    inFlight.release();
+                })
+            );
+    }
+
+    public Publisher<Output> publisher(final Consume task,
+        final RunContext runContext,
+        final Semaphore inFlight,
+        final Queue<String> emitted,
+        final KVStore kvStore,
+        final String kvKey) {
+        return Flux.create(
+            fluxSink ->
+            {
+                try (AbstractRedisConnection.RedisFactory factory = task.redisFactory(runContext)) {
+                    String rKey = runContext.render(this.key).as(String.class).orElseThrow();
+                    Optional<String> rGroup = runContext.render(this.group).as(String.class);
+                    SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElse(SerdeType.STRING);
+                    int rCount = runContext.render(this.count).as(Integer.class).orElse(10);
+                    Duration rBlockDuration = runContext.render(this.blockDuration).as(Duration.class).orElse(Duration.ofSeconds(1));
+
+                    Consumer<String> consumer = null;
+                    String offset;
+                    if (rGroup.isPresent()) {
+                        consumer = Consumer.from(rGroup.get(), runContext.render(this.consumer).as(String.class).orElse(Consume.DEFAULT_CONSUMER));
+                        Consume.createGroup(factory, rKey, rGroup.get(), runContext.render(this.groupStartId).as(String.class).orElse("$"));
+                        // replay the entries delivered to this consumer but never acknowledged before reading new ones
+                        offset = "0";
+                    } else {
+                        offset = kvStore.getValue(kvKey)
+                            .map(KVValue::value)
+                            .map(Object::toString)
+                            .orElse(runContext.render(this.startId).as(String.class).orElse("$"));
+
+                        if ("$".equals(offset)) {
+                            // pin "$" to the current last entry so nothing added between two reads is skipped
+                            offset = factory.getSyncCommands().xrevrange(rKey, Range.unbounded(), Limit.from(1))
+                                .stream()
+                                .findFirst()
+                                .map(StreamMessage::getId)
+                                .orElse("0-0");
+                        }
+                    }
+
+                    // without a group, the last emitted ID is saved to the KV store when it changed, throttled, and on stop
+                    String unsaved = null;
+                    long savedAt = System.nanoTime() - KV_SAVE_INTERVAL.toNanos();
+
+                    while (isActive.get()) {
+                        String drained = acknowledge(factory, rKey, rGroup, emitted);
+                        unsaved = drained != null ? drained : unsaved;
+                        if (unsaved != null && System.nanoTime() - savedAt >= KV_SAVE_INTERVAL.toNanos()) {
+                            save(kvStore, kvKey, rKey, unsaved);
+                            unsaved = null;
+                            savedAt = System.nanoTime();
+                        }
+
+                        if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                            continue;
+                        }
+                        int batch = 1 + Math.min(rCount - 1, inFlight.availablePermits());
+                        inFlight.acquire(batch - 1);
+
+                        List<StreamMessage<String, String>> messages;
+                        if (consumer != null) {
+                            XReadArgs args = ">".equals(offset) ? XReadArgs.Builder.count(batch).block(rBlockDuration) : XReadArgs.Builder.count(batch);
+                            messages = factory.getSyncCommands().xreadgroup(consumer, args, XReadArgs.StreamOffset.from(rKey, offset));
+                        } else {
+                            messages = factory.getSyncCommands().xread(XReadArgs.Builder.count(batch).block(rBlockDuration), XReadArgs.StreamOffset.from(rKey, offset));
+                        }
+
+                        int released = batch;
+                        if (messages != null) {
+                            for (StreamMessage<String, String> message : messages) {
+                                if (!">".equals(offset)) {
+                                    offset = message.getId();
+                                }
+
+                                if (message.getBody() == null) {
+                                    // deleted while pending, nothing to emit
+                                    emitted.add(message.getId());
+                                    continue;
+                                }
+
+                                released--;
+                                fluxSink.next(Output.of(message, rSerdeType));
+                            }
+                        }
+
+                        if (consumer != null && !">".equals(offset) && (messages == null || messages.size() < batch)) {
+                            offset = ">";
+                        }
+
+                        inFlight.release(released);
+                    }
+
+                    String drained = acknowledge(factory, rKey, rGroup, emitted);
+                    unsaved = drained != null ? drained : unsaved;
+                    if (unsaved != null) {
+                        save(kvStore, kvKey, rKey, unsaved);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    fluxSink.error(e);
+                } finally {
+                    fluxSink.complete();
+                    this.waitForTermination.countDown();
+                }
+            }
+        );
+    }
+
+    /**
+     * Acknowledges the emitted entries with a group, and returns the last emitted ID without one, or null when none was emitted.
+     */
+    private static String acknowledge(AbstractRedisConnection.RedisFactory factory, String key, Optional<String> group, Queue<String> emitted) {
+        List<String> ids = new ArrayList<>();
+        String id;
+        while ((id = emitted.poll()) != null) {
+            ids.add(id);
+        }
+
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        if (group.isPresent()) {
+            factory.getSyncCommands().xack(key, group.get(), ids.toArray(new String[0]));
+            return null;
+        }
+
+        return ids.getLast();
+    }
+
+    private static void save(KVStore kvStore, String kvKey, String key, String id) throws Exception {
+        kvStore.put(kvKey, new KVValueAndMetadata(new KVMetadata("Last Redis stream ID emitted for " + key, (Duration) null), id));
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Entry ID"
+        )
+        private String id;
+
+        @Schema(
+            title = "Stream key"
+        )
+        private String key;
+
+        @Schema(
+            title = "Entry field values, decoded with `serdeType`"
+        )
+        private Map<String, Object> values;
+
+        @SuppressWarnings("unchecked")
+        static Output of(StreamMessage<String, String> message, SerdeType serdeType) throws Exception {
+            Map<String, Object> record = Consume.toRecord(message, serdeType);
+
+            return Output.of(message.getId(), message.getStream(), (Map<String, Object>) record.get("values"));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void kill() {
+        stop(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public void stop() {
+        stop(false); // must be non-blocking
+    }
+
+    private void stop(boolean wait) {
+        if (!isActive.compareAndSet(true, false)) {
+            return;
+        }
+        if (wait) {
+            try {
+                this.waitForTermination.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
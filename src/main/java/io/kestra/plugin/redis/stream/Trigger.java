@@ -0,0 +1,129 @@
+package io.kestra.plugin.redis.stream;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.redis.RedisConnectionInterface;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Batch trigger from a Redis stream consumer group",
+    description = "Periodically reads new entries with `XREADGROUP` until `maxRecords` or `maxDuration` is reached, then starts one Execution. "
+        + "Entries are acknowledged with a single `XACK` once the batch is stored, so several Kestra workers can share the same group "
+        + "and entries abandoned by a dead worker are reclaimed with `claimMinIdleTime`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: stream_listen
+                namespace: company.team
+
+                tasks:
+                  - id: echo
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.uri }} containing {{ trigger.count }} entries"
+
+                triggers:
+                  - id: watch
+                    type: io.kestra.plugin.redis.stream.Trigger
+                    url: redis://localhost:6379/0
+                    key: orders
+                    group: kestra
+                    maxRecords: 500
+                    claimMinIdleTime: PT5M
+                """
+        )
+    }
+)
+public class Trigger extends AbstractTrigger implements PollingTriggerInterface, TriggerOutput<Consume.Output>, ConsumeInterface, RedisConnectionInterface {
+    private Property<String> url;
+
+    @Builder.Default
+    private Property<Boolean> cluster = Property.ofValue(false);
+
+    private Property<String> key;
+
+    @NotNull
+    private Property<String> group;
+
+    @Builder.Default
+    private Property<String> consumer = Property.ofValue(Consume.DEFAULT_CONSUMER);
+
+    @Builder.Default
+    private Property<String> groupStartId = Property.ofValue("$");
+
+    @Builder.Default
+    @NotNull
+    private Property<SerdeType> serdeType = Property.ofValue(SerdeType.STRING);
+
+    @Builder.Default
+    private Property<Integer> count = Property.ofValue(100);
+
+    @Builder.Default
+    private Property<Duration> blockDuration = Property.ofValue(Duration.ofSeconds(1));
+
+    private Property<Integer> maxRecords;
+
+    private Property<Duration> maxDuration;
+
+    private Property<Duration> claimMinIdleTime;
+
+    @Override
+    public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        Logger logger = runContext.logger();
+
+        Consume task = Consume.builder()
+            .url(this.url)
+            .cluster(this.cluster)
+            .key(this.key)
+            .group(this.group)
+            .consumer(this.consumer)
+            .groupStartId(this.groupStartId)
+            .serdeType(this.serdeType)
+            .count(this.count)
+            .blockDuration(this.blockDuration)
+            .maxRecords(this.maxRecords)
+            .maxDuration(this.maxDuration)
+            .claimMinIdleTime(this.claimMinIdleTime)
+            .build();
+        Consume.Output run = task.run(runContext);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found '{}' entries.", run.getCount());
+        }
+
+        if (run.getCount() == 0) {
+            return Optional.empty();
+        }
+
+        Execution execution = TriggerService.generateExecution(this, conditionContext, context, run);
+
+        return Optional.of(execution);
+    }
+
+    @Builder.Default
+    private final Duration interval = Duration.ofSeconds(60);
+
+}
@@ -0,0 +1,10 @@
+@PluginSubGroup(
+    title = "Stream",
+    description = "This sub-group of plugins contains tasks for using the Redis NoSQL database streams commands.",
+    categories = {
+        PluginSubGroup.PluginCategory.DATA
+    }
+)
+package io.kestra.plugin.redis.stream;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
\ No newline at end of file
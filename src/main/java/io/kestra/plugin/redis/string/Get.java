@@ -1,12 +1,21 @@
 package io.kestra.plugin.redis.string;
 
+import java.time.Duration;
+
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.NearCache;
+import io.kestra.plugin.redis.NearCacheInterface;
+import io.kestra.plugin.redis.ReadFromInterface;
+import io.kestra.plugin.redis.models.ReadFromType;
 import io.kestra.plugin.redis.models.SerdeType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -42,11 +51,85 @@ import lombok.experimental.SuperBuilder;
                     url: redis://:redis@localhost:6379/0
                     key: "{{ inputs.key_name }}"
                 """
+        ),
+        @Example(
+            title = "Read from a replica when one is available, once it has caught up with the writes of previous tasks.",
+            full = true,
+            code = """
+                id: redis_get_replica
+                namespace: company.team
+
+                tasks:
+                  - id: get
+                    type: io.kestra.plugin.redis.string.Get
+                    url: redis://:redis@localhost:6379/0
+                    key: mykey
+                    readFrom: REPLICA_PREFERRED
+                    maxReplicationWait: PT1S
+                """
+        )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        ),
+        @Metric(
+            name = "near.cache.hits.count",
+            type = Counter.TYPE,
+            unit = "reads",
+            description = "Number of reads served by the near cache, when it is enabled."
+        ),
+        @Metric(
+            name = "near.cache.misses.count",
+            type = Counter.TYPE,
+            unit = "reads",
+            description = "Number of reads loaded from Redis into the near cache, when it is enabled."
+        ),
+        @Metric(
+            name = "near.cache.invalidations.count",
+            type = Counter.TYPE,
+            unit = "keys",
+            description = "Number of invalidations pushed by Redis to the near cache since its previous read."
         )
     },
     aliases = "io.kestra.plugin.redis.Get"
 )
-public class Get extends AbstractRedisConnection implements RunnableTask<Get.Output> {
+public class Get extends AbstractRedisConnection implements RunnableTask<Get.Output>, ReadFromInterface, NearCacheInterface {
     @PluginProperty(group = "main")
     @Schema(
         title = "Redis key to read",
@@ -72,22 +155,47 @@ public class Get extends AbstractRedisConnection implements RunnableTask<Get.Out
     @Builder.Default
     private Property<Boolean> failedOnMissing = Property.ofValue(false);
 
+    @Builder.Default
+    private Property<ReadFromType> readFrom = Property.ofValue(ReadFromType.UPSTREAM);
+
+    private Property<Duration> maxReplicationWait;
+
+    @Builder.Default
+    private Property<Boolean> nearCache = Property.ofValue(false);
+
+    @Builder.Default
+    private Property<Long> nearCacheMaxBytes = Property.ofValue(NearCacheInterface.DEFAULT_MAX_BYTES);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        try (RedisFactory factory = this.redisFactory(runContext)) {
-            final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
+        final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
 
-            String data = factory.getSyncCommands().get(renderedKey);
+        final SerdeType rSerdeType = runContext.render(this.serdeType).as(SerdeType.class).orElseThrow();
 
-            if (data == null && runContext.render(failedOnMissing).as(Boolean.class).orElseThrow()) {
-                throw new NullPointerException("Missing keys '" + renderedKey + "'");
+        String data;
+        Object value;
+        if (runContext.render(this.nearCache).as(Boolean.class).orElse(false)) {
+            long rMaxBytes = runContext.render(this.nearCacheMaxBytes).as(Long.class).orElse(NearCacheInterface.DEFAULT_MAX_BYTES);
+            NearCache.Stats stats = new NearCache.Stats();
+            data = NearCache.of(runContext, this, rMaxBytes).get(stats, renderedKey, "GET", commands -> commands.get(renderedKey), String::length);
+            stats.report(runContext);
+            value = rSerdeType.deserialize(data);
+        } else {
+            try (RedisFactory factory = this.redisFactory(runContext)) {
+                String fetched = factory.readCommands(renderedKey).get(renderedKey);
+                data = fetched;
+                value = factory.serde(() -> rSerdeType.deserialize(fetched));
             }
+        }
 
-            return Output.builder()
-                .data(runContext.render(this.serdeType).as(SerdeType.class).orElseThrow().deserialize(data))
-                .key(renderedKey)
-                .build();
+        if (data == null && runContext.render(failedOnMissing).as(Boolean.class).orElseThrow()) {
+            throw new NullPointerException("Missing keys '" + renderedKey + "'");
         }
+
+        return Output.builder()
+            .data(value)
+            .key(renderedKey)
+            .build();
     }
 
     @Builder
@@ -1,12 +1,19 @@
 package io.kestra.plugin.redis.string;
 
+import java.time.Duration;
+
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.ReadFromInterface;
+import io.kestra.plugin.redis.models.ReadFromType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -42,9 +49,49 @@ import lombok.experimental.SuperBuilder;
                     key: "{{ inputs.key_name }}"
                 """
         )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
     }
 )
-public class Ttl extends AbstractRedisConnection implements RunnableTask<Ttl.Output> {
+public class Ttl extends AbstractRedisConnection implements RunnableTask<Ttl.Output>, ReadFromInterface {
     @PluginProperty(group = "main")
     @Schema(
         title = "Redis key to check",
@@ -53,12 +100,17 @@ public class Ttl extends AbstractRedisConnection implements RunnableTask<Ttl.Out
     @NotNull
     private Property<String> key;
 
+    @Builder.Default
+    private Property<ReadFromType> readFrom = Property.ofValue(ReadFromType.UPSTREAM);
+
+    private Property<Duration> maxReplicationWait;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         try (RedisFactory factory = this.redisFactory(runContext)) {
             final String renderedKey = runContext.render(this.key).as(String.class).orElseThrow();
 
-            Long ttl = factory.getSyncCommands().ttl(renderedKey);
+            Long ttl = factory.readCommands(renderedKey).ttl(renderedKey);
             return Output.builder()
                 .ttl(ttl)
                 .key(renderedKey)
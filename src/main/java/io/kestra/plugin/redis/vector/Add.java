@@ -5,8 +5,11 @@ import java.util.Map;
 import java.util.Optional;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -54,6 +57,46 @@ import lombok.experimental.SuperBuilder;
                     vector: "{{ inputs.embedding }}"
                 """
         )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
     }
 )
 public class Add extends AbstractRedisConnection implements RunnableTask<Add.Output> {
@@ -145,7 +188,7 @@ public class Add extends AbstractRedisConnection implements RunnableTask<Add.Out
 
             Map<String, Object> rAttributes = runContext.render(this.attributes).asMap(String.class, Object.class);
             if (!rAttributes.isEmpty()) {
-                args.attributes(SerdeType.JSON.serialize(rAttributes));
+                args.attributes(factory.serde(() -> SerdeType.JSON.serialize(rAttributes)));
             }
 
             Double[] vectorArray = rVector.toArray(new Double[0]);
@@ -1,19 +1,26 @@
 package io.kestra.plugin.redis.vector;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.redis.AbstractRedisConnection;
+import io.kestra.plugin.redis.ReadFromInterface;
+import io.kestra.plugin.redis.models.ReadFromType;
 
 import io.lettuce.core.VSimArgs;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
@@ -60,9 +67,49 @@ import lombok.experimental.SuperBuilder;
                     message: "Top matches: {{ outputs.search.matches }}"
                 """
         )
+    },
+    metrics = {
+        @Metric(
+            name = "connect.duration",
+            type = Timer.TYPE,
+            description = "Time taken to open the connection to Redis."
+        ),
+        @Metric(
+            name = "command.count",
+            type = Counter.TYPE,
+            unit = "commands",
+            description = "Number of commands sent to Redis, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p50",
+            type = Timer.TYPE,
+            description = "Median command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "command.latency.p99",
+            type = Timer.TYPE,
+            description = "99th percentile command latency, tagged by `command`."
+        ),
+        @Metric(
+            name = "bytes.read.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes received from Redis."
+        ),
+        @Metric(
+            name = "bytes.written.count",
+            type = Counter.TYPE,
+            unit = "bytes",
+            description = "Number of bytes sent to Redis."
+        ),
+        @Metric(
+            name = "serde.duration",
+            type = Timer.TYPE,
+            description = "Time spent serializing and deserializing values; only reported when values were converted."
+        )
     }
 )
-public class Similarity extends AbstractRedisConnection implements RunnableTask<Similarity.Output> {
+public class Similarity extends AbstractRedisConnection implements RunnableTask<Similarity.Output>, ReadFromInterface {
 
     @PluginProperty(group = "main")
     @Schema(
@@ -122,6 +169,11 @@ public class Similarity extends AbstractRedisConnection implements RunnableTask<
     )
     private Property<@DecimalMin("0.0") Double> epsilon;
 
+    @Builder.Default
+    private Property<ReadFromType> readFrom = Property.ofValue(ReadFromType.UPSTREAM);
+
+    private Property<Duration> maxReplicationWait;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         try (RedisFactory factory = this.redisFactory(runContext)) {
@@ -143,9 +195,10 @@ public class Similarity extends AbstractRedisConnection implements RunnableTask<
             runContext.render(this.explorationFactor).as(Integer.class).ifPresent(v -> args.explorationFactor(v.longValue()));
             runContext.render(this.epsilon).as(Double.class).ifPresent(args::epsilon);
 
+            RedisClusterCommands<String, String> commands = factory.readCommands(rKey);
             Map<String, Double> scores = hasVector
-                ? factory.getSyncCommands().vsimWithScore(rKey, args, rVector.toArray(new Double[0]))
-                : factory.getSyncCommands().vsimWithScore(rKey, args, rElement.get());
+                ? commands.vsimWithScore(rKey, args, rVector.toArray(new Double[0]))
+                : commands.vsimWithScore(rKey, args, rElement.get());
 
             List<String> matches = new ArrayList<>(scores.keySet());
 
@@ -0,0 +1,1603 @@
+package io.kestra.plugin.redis;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An in-JVM stand-in for Redis speaking RESP2 and RESP3, so that tests and benchmarks run hermetically and at high
+ * volumes without a Redis container.
+ * <p>
+ * It keeps everything in memory behind a single lock and implements the subset of commands the plugin sends:
+ * strings, key expiry, lists, a root and dotted-path JSON subset, pub/sub (channels, patterns, sharded channels and
+ * keyspace notifications), client tracking invalidations and streams with consumer groups. Latency and failures can
+ * be injected to exercise timeouts, retries and reconnections.
+ */
+public final class EmbeddedRedisServer implements AutoCloseable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Object NULL_ARRAY = new Object();
+    private static final Object NO_REPLY = new Object();
+
+    private final ServerSocket serverSocket;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final List<Failure> failures = new CopyOnWriteArrayList<>();
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong clientIds = new AtomicLong();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile boolean running = true;
+
+    // guarded by this
+    private final Map<String, Entry> keys = new HashMap<>();
+    private final Map<String, Set<Connection>> tracking = new HashMap<>();
+    private final Map<String, String> config = new HashMap<>(Map.of("notify-keyspace-events", ""));
+
+    public EmbeddedRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+
+        Thread acceptor = new Thread(this::accept, "embedded-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public String url() {
+        return "redis://127.0.0.1:" + serverSocket.getLocalPort();
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Delays every command by the given duration, as a slow or distant server would.
+     */
+    public EmbeddedRedisServer latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Answers the next {@code times} commands with the given name (case-insensitive) with an error reply,
+     * e.g. {@code READONLY You can't write against a read only replica.}, or closes the connection when the error is null.
+     */
+    public EmbeddedRedisServer failNext(String command, int times, String error) {
+        failures.add(new Failure(name -> name.equalsIgnoreCase(command), new AtomicLong(times), error));
+        return this;
+    }
+
+    /**
+     * Closes all the client connections, as a server restart or a network partition would.
+     */
+    public void disconnectClients() {
+        connections.forEach(Connection::close);
+    }
+
+    public long commandsProcessed() {
+        return commands.get();
+    }
+
+    public synchronized void flushAll() {
+        keys.clear();
+        invalidateAll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        disconnectClients();
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+
+                Connection connection = new Connection(socket, clientIds.incrementAndGet());
+                connections.add(connection);
+
+                Thread thread = new Thread(connection::serve, "embedded-redis-client-" + connection.id);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                // server closed
+            }
+        }
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Dispatch
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private Object execute(Connection connection, List<String> command) throws InterruptedException {
+        commands.incrementAndGet();
+        String name = command.getFirst().toUpperCase(Locale.ROOT);
+
+        if (!latency.isZero()) {
+            Thread.sleep(latency.toMillis());
+        }
+
+        for (Failure failure : failures) {
+            if (failure.matches(name) && failure.remaining.getAndDecrement() > 0) {
+                if (failure.error == null) {
+                    connection.close();
+                    return NO_REPLY;
+                }
+                return new Err(failure.error);
+            }
+        }
+
+        try {
+            return switch (name) {
+                case "PING" -> command.size() > 1 ? command.get(1) : new Status("PONG");
+                case "ECHO" -> command.get(1);
+                case "QUIT" -> {
+                    connection.closeAfterReply = true;
+                    yield new Status("OK");
+                }
+                case "AUTH", "SELECT", "READONLY", "READWRITE" -> new Status("OK");
+                case "HELLO" -> hello(connection, command);
+                case "CLIENT" -> client(connection, command);
+                case "COMMAND" -> List.of();
+                case "INFO" -> "# Replication\r\nrole:master\r\nconnected_slaves:0\r\nmaster_repl_offset:" + commands.get() + "\r\n";
+                case "ROLE" -> List.of("master", commands.get(), List.of());
+                case "CONFIG" -> config(command);
+                case "SUBSCRIBE", "PSUBSCRIBE", "SSUBSCRIBE" -> subscribe(connection, name, command.subList(1, command.size()));
+                case "UNSUBSCRIBE", "PUNSUBSCRIBE", "SUNSUBSCRIBE" -> unsubscribe(connection, name, command.subList(1, command.size()));
+                case "PUBLISH", "SPUBLISH" -> (long) publish(name.equals("SPUBLISH"), command.get(1), command.get(2));
+                case "XREAD", "XREADGROUP" -> xread(connection, name.equals("XREADGROUP"), command);
+                default -> {
+                    synchronized (this) {
+                        yield data(connection, name, command);
+                    }
+                }
+            };
+        } catch (CommandException e) {
+            return new Err(e.getMessage());
+        } catch (RuntimeException e) {
+            return new Err("ERR " + e.getMessage());
+        }
+    }
+
+    // called with the lock held
+    private Object data(Connection connection, String name, List<String> c) {
+        return switch (name) {
+            // keys
+            case "FLUSHALL", "FLUSHDB" -> {
+                keys.clear();
+                invalidateAll();
+                yield new Status("OK");
+            }
+            case "DBSIZE" -> {
+                keys.keySet().removeIf(key -> expired(key, keys.get(key)));
+                yield (long) keys.size();
+            }
+            case "DEL", "UNLINK" -> {
+                long deleted = 0;
+                for (String key : c.subList(1, c.size())) {
+                    if (get(connection, key, false) != null) {
+                        keys.remove(key);
+                        modified(key, "del", 'g');
+                        deleted++;
+                    }
+                }
+                yield deleted;
+            }
+            case "EXISTS" -> c.subList(1, c.size()).stream().filter(key -> get(connection, key, true) != null).count();
+            case "TYPE" -> {
+                Entry entry = get(connection, c.get(1), true);
+                yield new Status(entry == null ? "none" : entry.type());
+            }
+            case "EXPIRE", "PEXPIRE", "EXPIREAT", "PEXPIREAT" -> {
+                Entry entry = get(connection, c.get(1), false);
+                if (entry == null) {
+                    yield 0L;
+                }
+                long value = Long.parseLong(c.get(2));
+                entry.expireAt = switch (name) {
+                    case "EXPIRE" -> System.currentTimeMillis() + value * 1000;
+                    case "PEXPIRE" -> System.currentTimeMillis() + value;
+                    case "EXPIREAT" -> value * 1000;
+                    default -> value;
+                };
+                modified(c.get(1), "expire", 'g');
+                yield 1L;
+            }
+            case "TTL", "PTTL" -> {
+                Entry entry = get(connection, c.get(1), true);
+                if (entry == null) {
+                    yield -2L;
+                }
+                if (entry.expireAt == 0) {
+                    yield -1L;
+                }
+                long remaining = entry.expireAt - System.currentTimeMillis();
+                yield name.equals("TTL") ? Math.round(remaining / 1000.0) : remaining;
+            }
+            case "PERSIST" -> {
+                Entry entry = get(connection, c.get(1), false);
+                if (entry == null || entry.expireAt == 0) {
+                    yield 0L;
+                }
+                entry.expireAt = 0;
+                yield 1L;
+            }
+            case "KEYS" -> matchingKeys(c.get(1), null);
+            case "SCAN" -> {
+                String match = "*";
+                String type = null;
+                for (int i = 2; i + 1 < c.size(); i += 2) {
+                    switch (c.get(i).toUpperCase(Locale.ROOT)) {
+                        case "MATCH" -> match = c.get(i + 1);
+                        case "TYPE" -> type = c.get(i + 1);
+                        default -> {
+                        }
+                    }
+                }
+                // a single iteration returning every key is a valid, if unusual, SCAN
+                yield List.of("0", matchingKeys(match, type));
+            }
+
+            // strings
+            case "GET" -> string(get(connection, c.get(1), true));
+            case "MGET" -> {
+                List<Object> values = new ArrayList<>();
+                for (String key : c.subList(1, c.size())) {
+                    Entry entry = get(connection, key, true);
+                    values.add(entry != null && entry.value instanceof String string ? string : null);
+                }
+                yield values;
+            }
+            case "GETDEL" -> {
+                String value = string(get(connection, c.get(1), true));
+                if (value != null) {
+                    keys.remove(c.get(1));
+                    modified(c.get(1), "del", 'g');
+                }
+                yield value;
+            }
+            case "SET" -> set(connection, c);
+            case "SETEX", "PSETEX" -> {
+                long ttl = Long.parseLong(c.get(2)) * (name.equals("SETEX") ? 1000 : 1);
+                keys.put(c.get(1), new Entry(c.get(3), System.currentTimeMillis() + ttl));
+                modified(c.get(1), "set", '$');
+                yield new Status("OK");
+            }
+            case "STRLEN" -> {
+                String value = string(get(connection, c.get(1), true));
+                yield value == null ? 0L : (long) value.getBytes(StandardCharsets.UTF_8).length;
+            }
+            case "APPEND" -> {
+                String value = string(get(connection, c.get(1), false));
+                String appended = (value == null ? "" : value) + c.get(2);
+                put(c.get(1), appended);
+                modified(c.get(1), "append", '$');
+                yield (long) appended.getBytes(StandardCharsets.UTF_8).length;
+            }
+            case "INCR", "DECR", "INCRBY", "DECRBY" -> {
+                long by = c.size() > 2 ? Long.parseLong(c.get(2)) : 1;
+                long value = parseLong(string(get(connection, c.get(1), false))) + (name.startsWith("DECR") ? -by : by);
+                put(c.get(1), Long.toString(value));
+                modified(c.get(1), name.startsWith("DECR") ? "decrby" : "incrby", '$');
+                yield value;
+            }
+            case "INCRBYFLOAT" -> {
+                String current = string(get(connection, c.get(1), false));
+                double value = (current == null ? 0 : Double.parseDouble(current)) + Double.parseDouble(c.get(2));
+                String formatted = value == Math.rint(value) && !Double.isInfinite(value) ? Long.toString((long) value) : Double.toString(value);
+                put(c.get(1), formatted);
+                modified(c.get(1), "incrbyfloat", '$');
+                yield formatted;
+            }
+
+            // lists
+            case "LPUSH", "RPUSH", "LPUSHX", "RPUSHX" -> {
+                Deque<String> list = list(connection, c.get(1), !name.endsWith("X"));
+                if (list == null) {
+                    yield 0L;
+                }
+                for (String value : c.subList(2, c.size())) {
+                    if (name.startsWith("L")) {
+                        list.addFirst(value);
+                    } else {
+                        list.addLast(value);
+                    }
+                }
+                modified(c.get(1), name.startsWith("L") ? "lpush" : "rpush", 'l');
+                yield (long) list.size();
+            }
+            case "LPOP", "RPOP" -> {
+                boolean withCount = c.size() > 2;
+                List<String> popped = pop(connection, c.get(1), name.equals("LPOP"), withCount ? Integer.parseInt(c.get(2)) : 1);
+                if (popped.isEmpty()) {
+                    yield withCount ? NULL_ARRAY : null;
+                }
+                yield withCount ? popped : popped.getFirst();
+            }
+            case "LMPOP" -> {
+                int numKeys = Integer.parseInt(c.get(1));
+                boolean left = c.get(2 + numKeys).equalsIgnoreCase("LEFT");
+                int count = c.size() > 4 + numKeys ? Integer.parseInt(c.get(4 + numKeys)) : 1;
+                for (String key : c.subList(2, 2 + numKeys)) {
+                    List<String> popped = pop(connection, key, left, count);
+                    if (!popped.isEmpty()) {
+                        yield List.of(key, popped);
+                    }
+                }
+                yield NULL_ARRAY;
+            }
+            case "LLEN" -> {
+                Deque<String> list = list(connection, c.get(1), false);
+                yield list == null ? 0L : (long) list.size();
+            }
+            case "LINDEX" -> {
+                List<String> list = listSnapshot(connection, c.get(1));
+                int index = normalize(Integer.parseInt(c.get(2)), list.size());
+                yield index >= 0 && index < list.size() ? list.get(index) : null;
+            }
+            case "LRANGE" -> {
+                List<String> list = listSnapshot(connection, c.get(1));
+                int start = Math.max(0, normalize(Integer.parseInt(c.get(2)), list.size()));
+                int stop = Math.min(list.size() - 1, normalize(Integer.parseInt(c.get(3)), list.size()));
+                yield start > stop ? List.of() : new ArrayList<>(list.subList(start, stop + 1));
+            }
+            case "LTRIM" -> {
+                Deque<String> list = list(connection, c.get(1), false);
+                if (list != null) {
+                    List<String> snapshot = new ArrayList<>(list);
+                    int start = Math.max(0, normalize(Integer.parseInt(c.get(2)), snapshot.size()));
+                    int stop = Math.min(snapshot.size() - 1, normalize(Integer.parseInt(c.get(3)), snapshot.size()));
+                    list.clear();
+                    if (start <= stop) {
+                        list.addAll(snapshot.subList(start, stop + 1));
+                    }
+                    if (list.isEmpty()) {
+                        keys.remove(c.get(1));
+                    }
+                    modified(c.get(1), "ltrim", 'l');
+                }
+                yield new Status("OK");
+            }
+
+            // json
+            case "JSON.SET" -> jsonSet(connection, c);
+            case "JSON.GET" -> jsonGet(connection, c);
+            case "JSON.DEL", "JSON.FORGET" -> jsonDel(connection, c);
+            case "JSON.TYPE" -> jsonType(connection, c);
+            case "JSON.NUMINCRBY" -> jsonNumIncrBy(connection, c);
+
+            // streams
+            case "XADD" -> xadd(connection, c);
+            case "XLEN" -> {
+                Stream stream = stream(connection, c.get(1), false);
+                yield stream == null ? 0L : (long) stream.entries.size();
+            }
+            case "XRANGE", "XREVRANGE" -> xrange(connection, name.equals("XREVRANGE"), c);
+            case "XDEL" -> {
+                Stream stream = stream(connection, c.get(1), false);
+                long deleted = 0;
+                if (stream != null) {
+                    for (String id : c.subList(2, c.size())) {
+                        deleted += stream.entries.remove(StreamId.parse(id, 0)) != null ? 1 : 0;
+                    }
+                    modified(c.get(1), "xdel", 't');
+                }
+                yield deleted;
+            }
+            case "XTRIM" -> {
+                Stream stream = stream(connection, c.get(1), false);
+                yield stream == null ? 0L : (long) trim(stream, c, 2);
+            }
+            case "XGROUP" -> xgroup(connection, c);
+            case "XACK" -> {
+                Stream stream = stream(connection, c.get(1), false);
+                Group group = stream == null ? null : stream.groups.get(c.get(2));
+                long acked = 0;
+                if (group != null) {
+                    for (String id : c.subList(3, c.size())) {
+                        acked += group.pending.remove(StreamId.parse(id, 0)) != null ? 1 : 0;
+                    }
+                }
+                yield acked;
+            }
+            case "XAUTOCLAIM" -> xautoclaim(connection, c);
+
+            default -> throw new CommandException("ERR unknown command '" + c.getFirst() + "'");
+        };
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Keyspace
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private Entry get(Connection connection, String key, boolean read) {
+        Entry entry = keys.get(key);
+        if (entry != null && expired(key, entry)) {
+            keys.remove(key);
+            modified(key, "expired", 'x');
+            entry = null;
+        }
+
+        if (read && connection != null && connection.tracking) {
+            tracking.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(connection);
+        }
+
+        return entry;
+    }
+
+    private static boolean expired(String key, Entry entry) {
+        return entry.expireAt != 0 && entry.expireAt <= System.currentTimeMillis();
+    }
+
+    private void put(String key, Object value) {
+        Entry entry = keys.get(key);
+        if (entry == null) {
+            keys.put(key, new Entry(value, 0));
+        } else {
+            entry.value = value;
+        }
+    }
+
+    /**
+     * Called after every write: wakes up the blocked readers, invalidates the tracking clients and sends the keyspace notifications.
+     */
+    private void modified(String key, String event, char eventClass) {
+        notifyAll();
+
+        Set<Connection> trackers = tracking.remove(key);
+        if (trackers != null) {
+            trackers.forEach(tracker -> tracker.push(List.of("invalidate", List.of(key))));
+        }
+
+        String flags = config.get("notify-keyspace-events");
+        if (flags.isEmpty() || (flags.indexOf(eventClass) < 0 && !(flags.contains("A") && eventClass != 'm' && eventClass != 'n'))) {
+            return;
+        }
+        if (flags.contains("K")) {
+            publish(false, "__keyspace@0__:" + key, event);
+        }
+        if (flags.contains("E")) {
+            publish(false, "__keyevent@0__:" + event, key);
+        }
+    }
+
+    private void invalidateAll() {
+        notifyAll();
+        Set<Connection> trackers = new HashSet<>();
+        tracking.values().forEach(trackers::addAll);
+        tracking.clear();
+        trackers.forEach(tracker -> {
+            List<Object> invalidate = new ArrayList<>();
+            invalidate.add("invalidate");
+            invalidate.add(null);
+            tracker.push(invalidate);
+        });
+    }
+
+    private List<Object> matchingKeys(String pattern, String type) {
+        Pattern regex = glob(pattern);
+        List<Object> matching = new ArrayList<>();
+        for (Iterator<Map.Entry<String, Entry>> iterator = keys.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            if (expired(entry.getKey(), entry.getValue())) {
+                iterator.remove();
+                continue;
+            }
+            if (regex.matcher(entry.getKey()).matches() && (type == null || type.equalsIgnoreCase(entry.getValue().type()))) {
+                matching.add(entry.getKey());
+            }
+        }
+        return matching;
+    }
+
+    private static String string(Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        if (entry.value instanceof String string) {
+            return string;
+        }
+        throw wrongType();
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new CommandException("ERR value is not an integer or out of range");
+        }
+    }
+
+    private static CommandException wrongType() {
+        return new CommandException("WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+
+    private Object set(Connection connection, List<String> c) {
+        String key = c.get(1);
+        boolean nx = false, xx = false, get = false, keepTtl = false;
+        long expireAt = 0;
+        for (int i = 3; i < c.size(); i++) {
+            switch (c.get(i).toUpperCase(Locale.ROOT)) {
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "GET" -> get = true;
+                case "KEEPTTL" -> keepTtl = true;
+                case "EX" -> expireAt = System.currentTimeMillis() + Long.parseLong(c.get(++i)) * 1000;
+                case "PX" -> expireAt = System.currentTimeMillis() + Long.parseLong(c.get(++i));
+                case "EXAT" -> expireAt = Long.parseLong(c.get(++i)) * 1000;
+                case "PXAT" -> expireAt = Long.parseLong(c.get(++i));
+                default -> throw new CommandException("ERR syntax error");
+            }
+        }
+
+        Entry existing = get(connection, key, false);
+        String previous = get ? string(existing) : null;
+        if ((nx && existing != null) || (xx && existing == null)) {
+            return get ? previous : null;
+        }
+
+        long ttl = keepTtl && existing != null ? existing.expireAt : expireAt;
+        keys.put(key, new Entry(c.get(2), ttl));
+        modified(key, "set", '$');
+
+        return get ? previous : new Status("OK");
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Lists
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    @SuppressWarnings("unchecked")
+    private Deque<String> list(Connection connection, String key, boolean create) {
+        Entry entry = get(connection, key, !create);
+        if (entry == null) {
+            if (!create) {
+                return null;
+            }
+            entry = new Entry(new ArrayDeque<String>(), 0);
+            keys.put(key, entry);
+        }
+        if (entry.value instanceof Deque<?> deque) {
+            return (Deque<String>) deque;
+        }
+        throw wrongType();
+    }
+
+    private List<String> listSnapshot(Connection connection, String key) {
+        Deque<String> list = list(connection, key, false);
+        return list == null ? List.of() : new ArrayList<>(list);
+    }
+
+    private List<String> pop(Connection connection, String key, boolean left, int count) {
+        Deque<String> list = list(connection, key, false);
+        List<String> popped = new ArrayList<>();
+        if (list == null) {
+            return popped;
+        }
+
+        while (popped.size() < count && !list.isEmpty()) {
+            popped.add(left ? list.pollFirst() : list.pollLast());
+        }
+        if (list.isEmpty()) {
+            keys.remove(key);
+        }
+        if (!popped.isEmpty()) {
+            modified(key, left ? "lpop" : "rpop", 'l');
+        }
+
+        return popped;
+    }
+
+    private static int normalize(int index, int size) {
+        return index < 0 ? size + index : index;
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * JSON: the root path and dotted paths such as $.a.b or $.items[0], without wildcards or filters
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private JsonNode json(Connection connection, String key, boolean read) {
+        Entry entry = get(connection, key, read);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.value instanceof JsonNode node) {
+            return node;
+        }
+        throw wrongType();
+    }
+
+    private Object jsonSet(Connection connection, List<String> c) {
+        String key = c.get(1);
+        List<Object> path = jsonPath(c.get(2));
+        JsonNode value = parseJson(c.get(3));
+        boolean nx = c.size() > 4 && c.get(4).equalsIgnoreCase("NX");
+        boolean xx = c.size() > 4 && c.get(4).equalsIgnoreCase("XX");
+
+        JsonNode root = json(connection, key, false);
+        if (path.isEmpty()) {
+            if ((nx && root != null) || (xx && root == null)) {
+                return null;
+            }
+            put(key, value);
+            modified(key, "json.set", 'd');
+            return new Status("OK");
+        }
+
+        if (root == null) {
+            throw new CommandException("ERR new objects must be created at the root");
+        }
+
+        JsonNode parent = resolve(root, path.subList(0, path.size() - 1));
+        Object last = path.getLast();
+        boolean exists = parent != null && resolve(parent, List.of(last)) != null;
+        if (parent == null || (nx && exists) || (xx && !exists)) {
+            return null;
+        }
+
+        if (parent instanceof ObjectNode object && last instanceof String field) {
+            object.set(field, value);
+        } else if (parent instanceof ArrayNode array && last instanceof Integer index && exists) {
+            array.set(normalize(index, array.size()), value);
+        } else {
+            return null;
+        }
+        modified(key, "json.set", 'd');
+
+        return new Status("OK");
+    }
+
+    private Object jsonGet(Connection connection, List<String> c) {
+        JsonNode root = json(connection, c.get(1), true);
+        if (root == null) {
+            return null;
+        }
+
+        String path = c.size() > 2 ? c.get(2) : ".";
+        JsonNode node = resolve(root, jsonPath(path));
+        if (!path.startsWith("$")) {
+            if (node == null) {
+                throw new CommandException("ERR Path '" + path + "' does not exist");
+            }
+            return node.toString();
+        }
+
+        ArrayNode matches = JsonNodeFactory.instance.arrayNode();
+        if (node != null) {
+            matches.add(node);
+        }
+        return matches.toString();
+    }
+
+    private Object jsonDel(Connection connection, List<String> c) {
+        String key = c.get(1);
+        JsonNode root = json(connection, key, false);
+        if (root == null) {
+            return 0L;
+        }
+
+        List<Object> path = jsonPath(c.size() > 2 ? c.get(2) : "$");
+        if (path.isEmpty()) {
+            keys.remove(key);
+            modified(key, "json.del", 'd');
+            return 1L;
+        }
+
+        JsonNode parent = resolve(root, path.subList(0, path.size() - 1));
+        Object last = path.getLast();
+        long deleted = 0;
+        if (parent instanceof ObjectNode object && last instanceof String field) {
+            deleted = object.remove(field) != null ? 1 : 0;
+        } else if (parent instanceof ArrayNode array && last instanceof Integer index) {
+            int position = normalize(index, array.size());
+            if (position >= 0 && position < array.size()) {
+                array.remove(position);
+                deleted = 1;
+            }
+        }
+        if (deleted > 0) {
+            modified(key, "json.del", 'd');
+        }
+
+        return deleted;
+    }
+
+    private Object jsonType(Connection connection, List<String> c) {
+        JsonNode root = json(connection, c.get(1), true);
+        if (root == null) {
+            return null;
+        }
+
+        String path = c.size() > 2 ? c.get(2) : ".";
+        JsonNode node = resolve(root, jsonPath(path));
+        String type = node == null ? null : switch (node.getNodeType()) {
+            case OBJECT -> "object";
+            case ARRAY -> "array";
+            case STRING -> "string";
+            case BOOLEAN -> "boolean";
+            case NUMBER -> node.isIntegralNumber() ? "integer" : "number";
+            default -> "null";
+        };
+
+        if (!path.startsWith("$")) {
+            return type == null ? null : new Status(type);
+        }
+        List<Object> types = new ArrayList<>();
+        if (type != null) {
+            types.add(type);
+        }
+        return types;
+    }
+
+    private Object jsonNumIncrBy(Connection connection, List<String> c) {
+        String key = c.get(1);
+        JsonNode root = json(connection, key, false);
+        if (root == null) {
+            throw new CommandException("ERR could not perform this operation on a key that doesn't exist");
+        }
+
+        String path = c.get(2);
+        List<Object> segments = jsonPath(path);
+        JsonNode node = resolve(root, segments);
+        if (node == null || !node.isNumber()) {
+            if (path.startsWith("$")) {
+                List<Object> nothing = new ArrayList<>();
+                nothing.add(null);
+                return connection.protocol == 3 ? nothing : "[null]";
+            }
+            throw new CommandException("ERR Path '" + path + "' does not exist or does not contain a number");
+        }
+
+        JsonNode by = parseJson(c.get(3));
+        JsonNode result = node.isIntegralNumber() && by.isIntegralNumber()
+            ? JsonNodeFactory.instance.numberNode(node.longValue() + by.longValue())
+            : JsonNodeFactory.instance.numberNode(node.doubleValue() + by.doubleValue());
+
+        if (segments.isEmpty()) {
+            put(key, result);
+        } else {
+            JsonNode parent = resolve(root, segments.subList(0, segments.size() - 1));
+            if (parent instanceof ObjectNode object) {
+                object.set((String) segments.getLast(), result);
+            } else if (parent instanceof ArrayNode array) {
+                array.set(normalize((Integer) segments.getLast(), array.size()), result);
+            }
+        }
+        modified(key, "json.numincrby", 'd');
+
+        if (!path.startsWith("$")) {
+            return result.toString();
+        }
+        // RedisJSON answers $ paths with an array of numbers in RESP3, and with its JSON text in RESP2
+        return connection.protocol == 3
+            ? List.of(result.isIntegralNumber() ? (Object) result.longValue() : (Object) result.doubleValue())
+            : "[" + result + "]";
+    }
+
+    private static JsonNode parseJson(String value) {
+        try {
+            return MAPPER.readTree(value);
+        } catch (IOException e) {
+            throw new CommandException("ERR expected value at line 1 column 1");
+        }
+    }
+
+    private static List<Object> jsonPath(String path) {
+        String trimmed = path.startsWith("$") ? path.substring(1) : path;
+        List<Object> segments = new ArrayList<>();
+        for (String part : trimmed.split("\\.")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int bracket = part.indexOf('[');
+            String field = bracket < 0 ? part : part.substring(0, bracket);
+            if (!field.isEmpty()) {
+                segments.add(field);
+            }
+            while (bracket >= 0) {
+                int end = part.indexOf(']', bracket);
+                segments.add(Integer.parseInt(part.substring(bracket + 1, end)));
+                bracket = part.indexOf('[', end);
+            }
+        }
+        return segments;
+    }
+
+    private static JsonNode resolve(JsonNode node, List<Object> path) {
+        JsonNode current = node;
+        for (Object segment : path) {
+            if (current == null) {
+                return null;
+            }
+            current = segment instanceof Integer index
+                ? (current.isArray() ? current.get(normalize(index, current.size())) : null)
+                : current.get((String) segment);
+        }
+        return current;
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Streams
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private Stream stream(Connection connection, String key, boolean create) {
+        Entry entry = get(connection, key, !create);
+        if (entry == null) {
+            if (!create) {
+                return null;
+            }
+            entry = new Entry(new Stream(), 0);
+            keys.put(key, entry);
+        }
+        if (entry.value instanceof Stream stream) {
+            return stream;
+        }
+        throw wrongType();
+    }
+
+    private Object xadd(Connection connection, List<String> c) {
+        String key = c.get(1);
+        int i = 2;
+        boolean noMkStream = false;
+        int trimAt = -1;
+        while (true) {
+            String option = c.get(i).toUpperCase(Locale.ROOT);
+            if (option.equals("NOMKSTREAM")) {
+                noMkStream = true;
+                i++;
+            } else if (option.equals("MAXLEN") || option.equals("MINID")) {
+                trimAt = i;
+                i += c.get(i + 1).equals("~") || c.get(i + 1).equals("=") ? 3 : 2;
+                if (i < c.size() && c.get(i).equalsIgnoreCase("LIMIT")) {
+                    i += 2;
+                }
+            } else {
+                break;
+            }
+        }
+
+        Stream stream = stream(connection, key, !noMkStream);
+        if (stream == null) {
+            return null;
+        }
+
+        String requested = c.get(i);
+        StreamId id;
+        if (requested.equals("*")) {
+            long now = System.currentTimeMillis();
+            id = now > stream.lastId.ms() ? new StreamId(now, 0) : new StreamId(stream.lastId.ms(), stream.lastId.seq() + 1);
+        } else if (requested.endsWith("-*")) {
+            long ms = Long.parseLong(requested.substring(0, requested.length() - 2));
+            id = new StreamId(ms, ms == stream.lastId.ms() ? stream.lastId.seq() + 1 : 0);
+        } else {
+            id = StreamId.parse(requested, 0);
+        }
+        if (id.compareTo(stream.lastId) <= 0) {
+            throw new CommandException("ERR The ID specified in XADD is equal or smaller than the target stream top item");
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int f = i + 1; f + 1 < c.size(); f += 2) {
+            fields.put(c.get(f), c.get(f + 1));
+        }
+        stream.entries.put(id, fields);
+        stream.lastId = id;
+
+        if (trimAt >= 0) {
+            trim(stream, c, trimAt);
+        }
+        modified(key, "xadd", 't');
+
+        return id.toString();
+    }
+
+    private static int trim(Stream stream, List<String> c, int at) {
+        String strategy = c.get(at).toUpperCase(Locale.ROOT);
+        String threshold = c.get(at + 1).equals("~") || c.get(at + 1).equals("=") ? c.get(at + 2) : c.get(at + 1);
+
+        int trimmed = 0;
+        if (strategy.equals("MAXLEN")) {
+            long max = Long.parseLong(threshold);
+            while (stream.entries.size() > max) {
+                stream.entries.pollFirstEntry();
+                trimmed++;
+            }
+        } else {
+            StreamId min = StreamId.parse(threshold, 0);
+            while (!stream.entries.isEmpty() && stream.entries.firstKey().compareTo(min) < 0) {
+                stream.entries.pollFirstEntry();
+                trimmed++;
+            }
+        }
+        return trimmed;
+    }
+
+    private Object xrange(Connection connection, boolean reverse, List<String> c) {
+        Stream stream = stream(connection, c.get(1), false);
+        if (stream == null) {
+            return List.of();
+        }
+
+        String lowerArgument = reverse ? c.get(3) : c.get(2);
+        String upperArgument = reverse ? c.get(2) : c.get(3);
+        int count = c.size() > 5 && c.get(4).equalsIgnoreCase("COUNT") ? Integer.parseInt(c.get(5)) : Integer.MAX_VALUE;
+
+        NavigableMap<StreamId, Map<String, String>> range = stream.entries.subMap(
+            StreamId.parse(lowerArgument.replace("(", ""), 0), !lowerArgument.startsWith("("),
+            StreamId.parse(upperArgument.replace("(", ""), Long.MAX_VALUE), !upperArgument.startsWith("(")
+        );
+
+        return entries((reverse ? range.descendingMap() : range).entrySet(), count);
+    }
+
+    private Object xgroup(Connection connection, List<String> c) {
+        String subcommand = c.get(1).toUpperCase(Locale.ROOT);
+        String key = c.get(2);
+        switch (subcommand) {
+            case "CREATE" -> {
+                boolean mkStream = c.subList(5, c.size()).stream().anyMatch(option -> option.equalsIgnoreCase("MKSTREAM"));
+                Stream stream = stream(connection, key, mkStream);
+                if (stream == null) {
+                    throw new CommandException("ERR The XGROUP subcommand requires the key to exist. "
+                        + "Note that for CREATE you may want to use the MKSTREAM option to create an empty stream automatically.");
+                }
+                if (stream.groups.containsKey(c.get(3))) {
+                    throw new CommandException("BUSYGROUP Consumer Group name already exists");
+                }
+                StreamId start = c.get(4).equals("$") ? stream.lastId : StreamId.parse(c.get(4), 0);
+                stream.groups.put(c.get(3), new Group(start));
+                return new Status("OK");
+            }
+            case "DESTROY" -> {
+                Stream stream = stream(connection, key, false);
+                return stream != null && stream.groups.remove(c.get(3)) != null ? 1L : 0L;
+            }
+            case "SETID" -> {
+                Group group = group(connection, key, c.get(3), "XGROUP");
+                Stream stream = stream(connection, key, false);
+                group.lastDelivered = c.get(4).equals("$") ? stream.lastId : StreamId.parse(c.get(4), 0);
+                return new Status("OK");
+            }
+            default -> throw new CommandException("ERR unknown subcommand '" + c.get(1) + "'");
+        }
+    }
+
+    private Group group(Connection connection, String key, String name, String command) {
+        Stream stream = stream(connection, key, false);
+        Group group = stream == null ? null : stream.groups.get(name);
+        if (group == null) {
+            throw new CommandException("NOGROUP No such key '" + key + "' or consumer group '" + name + "' in " + command + " with GROUP option");
+        }
+        return group;
+    }
+
+    private Object xread(Connection connection, boolean grouped, List<String> c) throws InterruptedException {
+        String groupName = null;
+        String consumer = null;
+        int count = Integer.MAX_VALUE;
+        long block = -1;
+        boolean noAck = false;
+        int i = 1;
+        while (!c.get(i).equalsIgnoreCase("STREAMS")) {
+            switch (c.get(i).toUpperCase(Locale.ROOT)) {
+                case "GROUP" -> {
+                    groupName = c.get(++i);
+                    consumer = c.get(++i);
+                }
+                case "COUNT" -> count = Integer.parseInt(c.get(++i));
+                case "BLOCK" -> block = Long.parseLong(c.get(++i));
+                case "NOACK" -> noAck = true;
+                default -> throw new CommandException("ERR syntax error");
+            }
+            i++;
+        }
+
+        int streams = (c.size() - i - 1) / 2;
+        List<String> streamKeys = c.subList(i + 1, i + 1 + streams);
+        List<String> ids = c.subList(i + 1 + streams, c.size());
+        long deadline = block > 0 ? System.currentTimeMillis() + block : Long.MAX_VALUE;
+
+        synchronized (this) {
+            // "$" is resolved once, so that a blocked XREAD only returns the entries added after it was sent
+            List<StreamId> after = new ArrayList<>();
+            for (int s = 0; s < streams; s++) {
+                Stream stream = stream(connection, streamKeys.get(s), false);
+                String id = ids.get(s);
+                after.add(id.equals("$") ? (stream == null ? StreamId.ZERO : stream.lastId) : id.equals(">") ? null : StreamId.parse(id, 0));
+            }
+
+            while (true) {
+                Map<String, List<Object>> result = new LinkedHashMap<>();
+                for (int s = 0; s < streams; s++) {
+                    String key = streamKeys.get(s);
+                    List<Object> entries = grouped
+                        ? readGroup(connection, key, groupName, consumer, after.get(s), count, noAck)
+                        : read(connection, key, after.get(s), count);
+                    if (!entries.isEmpty() || (grouped && after.get(s) != null)) {
+                        result.put(key, entries);
+                    }
+                }
+
+                if (!result.isEmpty() || block < 0 || !connection.open()) {
+                    return result.isEmpty() ? NULL_ARRAY : new StreamReply(result);
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (block > 0 && remaining <= 0) {
+                    return NULL_ARRAY;
+                }
+                wait(block == 0 ? 100 : Math.min(remaining, 100));
+            }
+        }
+    }
+
+    private List<Object> read(Connection connection, String key, StreamId after, int count) {
+        Stream stream = stream(connection, key, false);
+        if (stream == null) {
+            return List.of();
+        }
+        return entries(stream.entries.tailMap(after, false).entrySet(), count);
+    }
+
+    private List<Object> readGroup(Connection connection, String key, String groupName, String consumer, StreamId after, int count, boolean noAck) {
+        Group group = group(connection, key, groupName, "XREADGROUP");
+        Stream stream = stream(connection, key, false);
+        long now = System.currentTimeMillis();
+
+        if (after != null) {
+            // history: the entries already delivered to this consumer and not acknowledged yet
+            List<Object> history = new ArrayList<>();
+            for (Map.Entry<StreamId, Pending> pending : group.pending.tailMap(after, false).entrySet()) {
+                if (history.size() >= count) {
+                    break;
+                }
+                if (pending.getValue().consumer.equals(consumer)) {
+                    pending.getValue().deliveredAt = now;
+                    pending.getValue().deliveries++;
+                    Map<String, String> fields = stream.entries.get(pending.getKey());
+                    List<Object> entry = new ArrayList<>();
+                    entry.add(pending.getKey().toString());
+                    entry.add(fields == null ? null : flatten(fields));
+                    history.add(entry);
+                }
+            }
+            return history;
+        }
+
+        List<Object> delivered = new ArrayList<>();
+        for (Map.Entry<StreamId, Map<String, String>> entry : stream.entries.tailMap(group.lastDelivered, false).entrySet()) {
+            if (delivered.size() >= count) {
+                break;
+            }
+            group.lastDelivered = entry.getKey();
+            if (!noAck) {
+                group.pending.put(entry.getKey(), new Pending(consumer, now));
+            }
+            delivered.add(List.of(entry.getKey().toString(), flatten(entry.getValue())));
+        }
+        return delivered;
+    }
+
+    private Object xautoclaim(Connection connection, List<String> c) {
+        Group group = group(connection, c.get(1), c.get(2), "XAUTOCLAIM");
+        Stream stream = stream(connection, c.get(1), false);
+        String consumer = c.get(3);
+        long minIdle = Long.parseLong(c.get(4));
+        StreamId start = StreamId.parse(c.get(5), 0);
+        int count = 100;
+        boolean justId = false;
+        for (int i = 6; i < c.size(); i++) {
+            if (c.get(i).equalsIgnoreCase("COUNT")) {
+                count = Integer.parseInt(c.get(++i));
+            } else if (c.get(i).equalsIgnoreCase("JUSTID")) {
+                justId = true;
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        List<Object> claimed = new ArrayList<>();
+        List<Object> deleted = new ArrayList<>();
+        StreamId next = StreamId.ZERO;
+        Iterator<Map.Entry<StreamId, Pending>> iterator = group.pending.tailMap(start, true).entrySet().iterator();
+        int scanned = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<StreamId, Pending> pending = iterator.next();
+            if (scanned++ >= count) {
+                next = pending.getKey();
+                break;
+            }
+            if (now - pending.getValue().deliveredAt < minIdle) {
+                continue;
+            }
+
+            Map<String, String> fields = stream.entries.get(pending.getKey());
+            if (fields == null) {
+                iterator.remove();
+                deleted.add(pending.getKey().toString());
+                continue;
+            }
+
+            pending.getValue().consumer = consumer;
+            pending.getValue().deliveredAt = now;
+            if (!justId) {
+                pending.getValue().deliveries++;
+            }
+            claimed.add(justId ? pending.getKey().toString() : List.of(pending.getKey().toString(), flatten(fields)));
+        }
+
+        return List.of(next.toString(), claimed, deleted);
+    }
+
+    private static List<Object> entries(Collection<Map.Entry<StreamId, Map<String, String>>> entries, int count) {
+        List<Object> result = new ArrayList<>();
+        for (Map.Entry<StreamId, Map<String, String>> entry : entries) {
+            if (result.size() >= count) {
+                break;
+            }
+            result.add(List.of(entry.getKey().toString(), flatten(entry.getValue())));
+        }
+        return result;
+    }
+
+    private static List<Object> flatten(Map<String, String> fields) {
+        List<Object> flat = new ArrayList<>(fields.size() * 2);
+        fields.forEach((field, value) -> {
+            flat.add(field);
+            flat.add(value);
+        });
+        return flat;
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Connection, configuration and pub/sub
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private Object hello(Connection connection, List<String> c) {
+        if (c.size() > 1) {
+            int protocol = Integer.parseInt(c.get(1));
+            if (protocol != 2 && protocol != 3) {
+                throw new CommandException("NOPROTO unsupported protocol version");
+            }
+            connection.protocol = protocol;
+        }
+
+        Map<Object, Object> info = new LinkedHashMap<>();
+        info.put("server", "redis");
+        info.put("version", "7.4.0");
+        info.put("proto", (long) connection.protocol);
+        info.put("id", connection.id);
+        info.put("mode", "standalone");
+        info.put("role", "master");
+        info.put("modules", List.of());
+        return info;
+    }
+
+    private Object client(Connection connection, List<String> c) {
+        return switch (c.get(1).toUpperCase(Locale.ROOT)) {
+            case "ID" -> connection.id;
+            case "GETNAME" -> connection.name;
+            case "SETNAME" -> {
+                connection.name = c.get(2);
+                yield new Status("OK");
+            }
+            case "TRACKING" -> {
+                if (connection.protocol != 3) {
+                    throw new CommandException("ERR Client tracking is only supported with RESP3 in this server");
+                }
+                connection.tracking = c.get(2).equalsIgnoreCase("ON");
+                yield new Status("OK");
+            }
+            default -> new Status("OK");
+        };
+    }
+
+    private synchronized Object config(List<String> c) {
+        String subcommand = c.get(1).toUpperCase(Locale.ROOT);
+        if (subcommand.equals("SET")) {
+            for (int i = 2; i + 1 < c.size(); i += 2) {
+                config.put(c.get(i).toLowerCase(Locale.ROOT), c.get(i + 1));
+            }
+            return new Status("OK");
+        }
+
+        Map<Object, Object> values = new LinkedHashMap<>();
+        for (String parameter : c.subList(2, c.size())) {
+            Pattern regex = glob(parameter.toLowerCase(Locale.ROOT));
+            config.forEach((name, value) -> {
+                if (regex.matcher(name).matches()) {
+                    values.put(name, value);
+                }
+            });
+        }
+        return values;
+    }
+
+    private Object subscribe(Connection connection, String name, List<String> channels) {
+        String kind = name.toLowerCase(Locale.ROOT);
+        Set<String> target = connection.subscriptions(name);
+        for (String channel : channels) {
+            target.add(channel);
+            connection.push(List.of(kind, channel, (long) connection.subscriptionCount()));
+        }
+        return NO_REPLY;
+    }
+
+    private Object unsubscribe(Connection connection, String name, List<String> channels) {
+        String kind = name.toLowerCase(Locale.ROOT);
+        Set<String> target = connection.subscriptions(name.substring(2));
+        List<String> removed = channels.isEmpty() ? new ArrayList<>(target) : channels;
+        if (removed.isEmpty()) {
+            List<Object> reply = new ArrayList<>();
+            reply.add(kind);
+            reply.add(null);
+            reply.add(0L);
+            connection.push(reply);
+        }
+        for (String channel : removed) {
+            target.remove(channel);
+            connection.push(List.of(kind, channel, (long) connection.subscriptionCount()));
+        }
+        return NO_REPLY;
+    }
+
+    private int publish(boolean sharded, String channel, String message) {
+        int receivers = 0;
+        for (Connection connection : connections) {
+            if (sharded) {
+                if (connection.shardChannels.contains(channel)) {
+                    connection.push(List.of("smessage", channel, message));
+                    receivers++;
+                }
+                continue;
+            }
+
+            if (connection.channels.contains(channel)) {
+                connection.push(List.of("message", channel, message));
+                receivers++;
+            }
+            for (String pattern : connection.patterns) {
+                if (glob(pattern).matcher(channel).matches()) {
+                    connection.push(List.of("pmessage", pattern, channel, message));
+                    receivers++;
+                }
+            }
+        }
+        return receivers;
+    }
+
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char ch = glob.charAt(i);
+            switch (ch) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                case '[', ']' -> regex.append(ch);
+                case '\\' -> {
+                    if (i + 1 < glob.length()) {
+                        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                    }
+                }
+                default -> regex.append(Pattern.quote(String.valueOf(ch)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Protocol
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private final class Connection {
+        private final Socket socket;
+        private final long id;
+        private OutputStream output;
+        private volatile int protocol = 2;
+        private volatile boolean tracking = false;
+        private volatile boolean closeAfterReply = false;
+        private String name;
+
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private final Set<String> patterns = ConcurrentHashMap.newKeySet();
+        private final Set<String> shardChannels = ConcurrentHashMap.newKeySet();
+
+        private Connection(Socket socket, long id) {
+            this.socket = socket;
+            this.id = id;
+        }
+
+        private void serve() {
+            try (socket; InputStream input = new BufferedInputStream(socket.getInputStream())) {
+                this.output = socket.getOutputStream();
+                while (running && !socket.isClosed()) {
+                    List<String> command = readCommand(input);
+                    Object reply = execute(this, command);
+                    if (reply != NO_REPLY) {
+                        send(encode(reply, protocol));
+                    }
+                    if (closeAfterReply) {
+                        break;
+                    }
+                }
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                // client disconnected
+            } finally {
+                connections.remove(this);
+                synchronized (EmbeddedRedisServer.this) {
+                    EmbeddedRedisServer.this.tracking.values().forEach(trackers -> trackers.remove(this));
+                }
+            }
+        }
+
+        private boolean open() {
+            return !socket.isClosed();
+        }
+
+        private Set<String> subscriptions(String command) {
+            return switch (command) {
+                case "PSUBSCRIBE" -> patterns;
+                case "SSUBSCRIBE" -> shardChannels;
+                default -> channels;
+            };
+        }
+
+        private int subscriptionCount() {
+            return channels.size() + patterns.size() + shardChannels.size();
+        }
+
+        private void push(List<?> message) {
+            try {
+                send(encode(new Push(message), protocol));
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private synchronized void send(byte[] bytes) throws IOException {
+            output.write(bytes);
+            output.flush();
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    private static List<String> readCommand(InputStream input) throws IOException {
+        String header = readLine(input);
+        if (header.isEmpty() || header.charAt(0) != '*') {
+            // inline command, as sent by telnet or redis-cli in some modes
+            return new ArrayList<>(List.of(header.trim().split("\\s+")));
+        }
+
+        int count = Integer.parseInt(header.substring(1));
+        List<String> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String length = readLine(input);
+            byte[] bytes = input.readNBytes(Integer.parseInt(length.substring(1)));
+            if (input.read() != '\r' || input.read() != '\n') {
+                throw new IOException("Protocol error: missing CRLF after bulk string");
+            }
+            arguments.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = input.read()) != '\r') {
+            if (c == -1) {
+                throw new EOFException();
+            }
+            line.write(c);
+        }
+        input.read();
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    static byte[] encode(Object reply, int protocol) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        encode(output, reply, protocol);
+        return output.toByteArray();
+    }
+
+    private static void encode(ByteArrayOutputStream output, Object reply, int protocol) {
+        switch (reply) {
+            case null -> output.writeBytes((protocol == 3 ? "_\r\n" : "$-1\r\n").getBytes(StandardCharsets.US_ASCII));
+            case Status status -> output.writeBytes(("+" + status.value() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            case Err err -> output.writeBytes(("-" + err.message() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            case Long number -> output.writeBytes((":" + number + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            case Integer number -> output.writeBytes((":" + number + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            case Double number -> encode(output, protocol == 3 ? new Resp3Double(number) : Double.toString(number), protocol);
+            case Resp3Double number -> output.writeBytes(("," + number.value() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            case String string -> {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                output.writeBytes(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                output.writeBytes(bytes);
+                output.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+            }
+            case Push push -> {
+                output.writeBytes(((protocol == 3 ? ">" : "*") + push.values().size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                push.values().forEach(value -> encode(output, value, protocol));
+            }
+            case StreamReply streams -> {
+                if (protocol == 3) {
+                    encode(output, new LinkedHashMap<Object, Object>(streams.entries()), protocol);
+                } else {
+                    List<Object> pairs = new ArrayList<>();
+                    streams.entries().forEach((key, entries) -> pairs.add(List.of(key, entries)));
+                    encode(output, pairs, protocol);
+                }
+            }
+            case Map<?, ?> map -> {
+                output.writeBytes(((protocol == 3 ? "%" + map.size() : "*" + map.size() * 2) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                map.forEach((key, value) -> {
+                    encode(output, key, protocol);
+                    encode(output, value, protocol);
+                });
+            }
+            case List<?> list -> {
+                output.writeBytes(("*" + list.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                list.forEach(value -> encode(output, value, protocol));
+            }
+            default -> {
+                if (reply == NULL_ARRAY) {
+                    output.writeBytes((protocol == 3 ? "_\r\n" : "*-1\r\n").getBytes(StandardCharsets.US_ASCII));
+                } else {
+                    throw new IllegalStateException("Unsupported reply " + reply.getClass());
+                }
+            }
+        }
+    }
+
+    /* ------------------------------------------------------------------------------------------------------------ *\
+     * Model
+    \* ------------------------------------------------------------------------------------------------------------ */
+
+    private static final class Entry {
+        private Object value;
+        private long expireAt;
+
+        private Entry(Object value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private String type() {
+            return switch (value) {
+                case String ignored -> "string";
+                case Deque<?> ignored -> "list";
+                case Stream ignored -> "stream";
+                case JsonNode ignored -> "ReJSON-RL";
+                default -> "none";
+            };
+        }
+    }
+
+    private static final class Stream {
+        private final TreeMap<StreamId, Map<String, String>> entries = new TreeMap<>();
+        private final Map<String, Group> groups = new LinkedHashMap<>();
+        private StreamId lastId = StreamId.ZERO;
+    }
+
+    private static final class Group {
+        private final TreeMap<StreamId, Pending> pending = new TreeMap<>();
+        private StreamId lastDelivered;
+
+        private Group(StreamId lastDelivered) {
+            this.lastDelivered = lastDelivered;
+        }
+    }
+
+    private static final class Pending {
+        private String consumer;
+        private long deliveredAt;
+        private long deliveries = 1;
+
+        private Pending(String consumer, long deliveredAt) {
+            this.consumer = consumer;
+            this.deliveredAt = deliveredAt;
+        }
+    }
+
+    private record StreamId(long ms, long seq) implements Comparable<StreamId> {
+        static final StreamId ZERO = new StreamId(0, 0);
+
+        static StreamId parse(String id, long defaultSeq) {
+            if (id.equals("-")) {
+                return ZERO;
+            }
+            if (id.equals("+")) {
+                return new StreamId(Long.MAX_VALUE, Long.MAX_VALUE);
+            }
+            int dash = id.indexOf('-');
+            try {
+                return dash < 0
+                    ? new StreamId(Long.parseLong(id), defaultSeq)
+                    : new StreamId(Long.parseLong(id.substring(0, dash)), Long.parseLong(id.substring(dash + 1)));
+            } catch (NumberFormatException e) {
+                throw new CommandException("ERR Invalid stream ID specified as stream command argument");
+            }
+        }
+
+        @Override
+        public int compareTo(StreamId other) {
+            int byMs = Long.compareUnsigned(ms, other.ms);
+            return byMs != 0 ? byMs : Long.compareUnsigned(seq, other.seq);
+        }
+
+        @Override
+        public String toString() {
+            return ms + "-" + seq;
+        }
+    }
+
+    private record Failure(Predicate<String> command, AtomicLong remaining, String error) {
+        boolean matches(String name) {
+            return remaining.get() > 0 && command.test(name);
+        }
+    }
+
+    private record Status(String value) {
+    }
+
+    private record Err(String message) {
+    }
+
+    private record Push(List<?> values) {
+    }
+
+    private record Resp3Double(double value) {
+    }
+
+    private record StreamReply(Map<String, List<Object>> entries) {
+    }
+
+    private static final class CommandException extends RuntimeException {
+        private CommandException(String message) {
+            super(message);
+        }
+    }
+}
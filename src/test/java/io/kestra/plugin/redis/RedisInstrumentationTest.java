@@ -0,0 +1,34 @@
+package io.kestra.plugin.redis;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class RedisInstrumentationTest {
+    @Test
+    void percentiles() {
+        RedisInstrumentation.Samples samples = new RedisInstrumentation.Samples();
+        for (long i = 100; i >= 1; i--) {
+            samples.add(i);
+        }
+
+        long[] sorted = samples.sorted();
+
+        assertThat(samples.count(), is(100L));
+        assertThat(RedisInstrumentation.percentile(sorted, 0.50), is(50L));
+        assertThat(RedisInstrumentation.percentile(sorted, 0.99), is(99L));
+        assertThat(RedisInstrumentation.percentile(new long[0], 0.99), is(0L));
+    }
+
+    @Test
+    void reservoirIsBounded() {
+        RedisInstrumentation.Samples samples = new RedisInstrumentation.Samples();
+        for (long i = 0; i < RedisInstrumentation.MAX_SAMPLES * 3L; i++) {
+            samples.add(i);
+        }
+
+        assertThat(samples.count(), is(RedisInstrumentation.MAX_SAMPLES * 3L));
+        assertThat(samples.sorted().length, is(RedisInstrumentation.MAX_SAMPLES));
+    }
+}
@@ -0,0 +1,130 @@
+package io.kestra.plugin.redis;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class RetryingCommandsTest {
+    @Test
+    void retryIdempotentCommandUntilMasterIsWritable() {
+        AtomicInteger calls = new AtomicInteger();
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, 2));
+
+        assertThat(commands.get("key"), is("value"));
+        assertThat(calls.get(), is(3));
+    }
+
+    @Test
+    void doNotRetryNonIdempotentCommand() {
+        AtomicInteger calls = new AtomicInteger();
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, 2));
+
+        Assertions.assertThrows(RedisCommandExecutionException.class, () -> commands.incr("key"));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void retryRejectedWrite() {
+        AtomicInteger calls = new AtomicInteger();
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, 1));
+
+        assertThat(commands.del("key"), is(1L));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void doNotRetryWriteAfterTimeout() {
+        AtomicInteger calls = new AtomicInteger();
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, 1, () -> new RedisCommandTimeoutException("Command timed out")));
+
+        // the first DEL may have been applied, a replay would answer 0
+        Assertions.assertThrows(RedisCommandTimeoutException.class, () -> commands.del("key"));
+        assertThat(calls.get(), is(1));
+
+        calls.set(0);
+        assertThat(commands.get("key"), is("value"));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void retryAfterSlowFirstAttempt() {
+        AtomicInteger calls = new AtomicInteger();
+        // a first attempt that times out after longer than the whole retry budget, like a 60 s timeout against 30 s
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, 1, () -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new RedisCommandTimeoutException("Command timed out after 300 millisecond(s)");
+        }), Duration.ofMillis(200));
+
+        assertThat(commands.get("key"), is("value"));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void interruptStopsRetrying() {
+        AtomicInteger calls = new AtomicInteger();
+        RedisClusterCommands<String, String> commands = wrap(stub(calls, Integer.MAX_VALUE));
+
+        Thread.currentThread().interrupt();
+        try {
+            RedisCommandInterruptedException exception = Assertions.assertThrows(RedisCommandInterruptedException.class, () -> commands.get("key"));
+            assertThat(exception.getSuppressed()[0] instanceof RedisCommandExecutionException, is(true));
+            assertThat(Thread.currentThread().isInterrupted(), is(true));
+            assertThat(calls.get(), is(1));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void doNotRetryOtherErrors() {
+        assertThat(RetryingCommands.isRetryable(new RedisCommandExecutionException("WRONGTYPE Operation against a key holding the wrong kind of value")), is(false));
+        assertThat(RetryingCommands.isRetryable(new RedisCommandExecutionException("LOADING Redis is loading the dataset in memory")), is(true));
+    }
+
+    private static RedisClusterCommands<String, String> wrap(RedisClusterCommands<String, String> target) {
+        return wrap(target, RetryingCommands.MAX_RETRY_DURATION);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisClusterCommands<String, String> wrap(RedisClusterCommands<String, String> target, Duration maxRetryDuration) {
+        return RetryingCommands.wrap(RedisClusterCommands.class, target, LoggerFactory.getLogger(RetryingCommandsTest.class), maxRetryDuration);
+    }
+
+    /**
+     * Commands that fail with READONLY, like a demoted master, for the given number of calls, then return "value" or 1.
+     */
+    private static RedisClusterCommands<String, String> stub(AtomicInteger calls, int failures) {
+        return stub(calls, failures, () -> new RedisCommandExecutionException("READONLY You can't write against a read only replica."));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisClusterCommands<String, String> stub(AtomicInteger calls, int failures, Supplier<RuntimeException> error) {
+        return (RedisClusterCommands<String, String>) Proxy.newProxyInstance(
+            RedisClusterCommands.class.getClassLoader(),
+            new Class<?>[]{RedisClusterCommands.class},
+            (proxy, method, args) -> {
+                if (calls.incrementAndGet() <= failures) {
+                    throw error.get();
+                }
+                return method.getName().equals("get") ? "value" : 1L;
+            }
+        );
+    }
+}
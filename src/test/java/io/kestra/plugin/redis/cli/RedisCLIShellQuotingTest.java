@@ -116,4 +116,38 @@ class RedisCLIShellQuotingTest {
         assertThat(RedisCLI.shellQuoteRedisCommand(""), is(""));
         assertThat(RedisCLI.tokenize(""), is(List.of()));
     }
+
+    // --- extractWrappedShellCommands (per-command vs single-container script) ---
+
+    @Test
+    void extractWrappedShellCommands_perCommandWrapsEachCommand() {
+        List<String> wrapped = RedisCLI.extractWrappedShellCommands(List.of("PING", "DBSIZE"), new StringBuilder("redis-cli"), false, false);
+
+        assertThat(wrapped, hasSize(2));
+        assertThat(wrapped.get(0), containsString("\"command_1\""));
+        assertThat(wrapped.get(1), containsString("\"command_2\""));
+        assertThat(wrapped.get(1), endsWith("exit $RC"));
+    }
+
+    @Test
+    void extractWrappedShellCommands_singleScriptStopsOnFirstFailure() {
+        List<String> wrapped = RedisCLI.extractWrappedShellCommands(List.of("PING", "DBSIZE", "INFO"), new StringBuilder("redis-cli"), true, false);
+
+        assertThat(wrapped, hasSize(1));
+        String script = wrapped.getFirst();
+        assertThat(script, containsString("\"command_1\""));
+        assertThat(script, containsString("\"command_3\""));
+        // a guard between each pair of commands, and the last RC is propagated
+        assertThat(script.split("if \\[ \\$RC -ne 0 \\]; then exit \\$RC; fi; ", -1).length, is(3));
+        assertThat(script, endsWith("exit $RC"));
+    }
+
+    @Test
+    void extractWrappedShellCommands_outputToFilesRedirectsInsteadOfCapturing() {
+        List<String> wrapped = RedisCLI.extractWrappedShellCommands(List.of("KEYS *"), new StringBuilder("redis-cli"), false, true);
+
+        assertThat(wrapped.getFirst(), startsWith("redis-cli 'KEYS' '*' > 'command_1.out' 2>&1; "));
+        assertThat(wrapped.getFirst(), not(containsString("OUT=$(")));
+        assertThat(wrapped.getFirst(), containsString("{\"size\":%s,\"lines\":%s}"));
+    }
 }
@@ -1,5 +1,11 @@
 package io.kestra.plugin.redis.cli;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -10,6 +16,9 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTaskException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 
@@ -25,6 +34,9 @@ class RedisCLITest {
     @Inject
     private RunContextFactory runContextFactory;
 
+    @Inject
+    private StorageInterface storageInterface;
+
     private static String host() {
         return "172.17.0.1";
     }
@@ -228,4 +240,303 @@ class RedisCLITest {
         assertThat(ex.getCause(), notNullValue());
         assertThat(ex.getCause().getMessage(), containsString("Command failed with exit code 1"));
     }
+
+    @Test
+    void testSingleContainerMode() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue(host()))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.SINGLE_CONTAINER))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "SET single_container_key 'one container'",
+                        "GET single_container_key",
+                        "ECHO 'Hello World'"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getExitCode(), is(0));
+        assertThat(output.getVars().get("command_2"), is("one container"));
+        assertThat(output.getVars().get("command_3"), is("Hello World"));
+    }
+
+    @Test
+    void testSingleContainerModeStopsOnFirstFailure() {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue(host()))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.SINGLE_CONTAINER))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "PING",
+                        "NO_SUCH_COMMAND",
+                        "PING"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        RunnableTaskException ex = assertThrows(
+            RunnableTaskException.class,
+            () -> task.run(runContext)
+        );
+
+        assertThat(ex.getMessage(), containsString("Command failed with exit code 1"));
+    }
+
+    @Test
+    void testNativeMode() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "DEL native_list_cli",
+                        "RPUSH native_list_cli item1 item2 'item 3'",
+                        "LRANGE native_list_cli 0 -1",
+                        "SET native_key_cli 'Hello from native'",
+                        "GET native_key_cli",
+                        "GET native_missing_key_cli"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getExitCode(), is(0));
+        assertThat(output.getVars().get("command_2"), is("3"));
+        assertThat(output.getVars().get("command_3"), is("item1\nitem2\nitem 3"));
+        assertThat(output.getVars().get("command_4"), is("OK"));
+        assertThat(output.getVars().get("command_5"), is("Hello from native"));
+        assertThat(output.getVars().get("command_6"), is(""));
+    }
+
+    @Test
+    void testNativeModeJsonOutput() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .jsonOutput(Property.ofValue(true))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "SET native_json_cli 'test_value'",
+                        "GET native_json_cli",
+                        "EXISTS native_json_cli"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getVars().get("command_2"), is("\"test_value\""));
+        assertThat(output.getVars().get("command_3"), is("1"));
+    }
+
+    @Test
+    void testNativeModeFailure() {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "PING",
+                        "NO_SUCH_COMMAND"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        IllegalStateException ex = assertThrows(
+            IllegalStateException.class,
+            () -> task.run(runContext)
+        );
+
+        assertThat(ex.getMessage(), containsString("command_2"));
+    }
+
+    @Test
+    void testNativeMassInsertion() throws Exception {
+        List<Object> rows = new ArrayList<>();
+        rows.add(List.of("DEL", "pipe_list_cli"));
+        for (int i = 0; i < 1000; i++) {
+            rows.add(List.of("RPUSH", "pipe_list_cli", "value " + i));
+        }
+        rows.add("SET pipe_key_cli 'Hello World'");
+
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .pipeFrom(Property.ofValue(createIonFile(rows).toString()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getVars().get("errors"), is(0L));
+        assertThat(output.getVars().get("replies"), is(1002L));
+
+        RedisCLI check = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .commands(Property.ofValue(List.of("LLEN pipe_list_cli", "GET pipe_key_cli")))
+            .build();
+        var checkOutput = check.run(TestsUtils.mockRunContext(runContextFactory, check, Map.of()));
+
+        assertThat(checkOutput.getVars().get("command_1"), is("1000"));
+        assertThat(checkOutput.getVars().get("command_2"), is("Hello World"));
+    }
+
+    @Test
+    void testMassInsertionInContainer() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue(host()))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .pipeFrom(Property.ofValue(createIonFile(List.of(List.of("SET", "pipe_container_cli", "1"), List.of("INCR", "pipe_container_cli"))).toString()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(((Number) output.getVars().get("errors")).longValue(), is(0L));
+        assertThat(((Number) output.getVars().get("replies")).longValue(), is(2L));
+    }
+
+    @Test
+    void testNativeMassInsertionFailsOnErrors() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .pipeFrom(Property.ofValue(createIonFile(List.of(List.of("PING"), List.of("NO_SUCH_COMMAND"))).toString()))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        IllegalStateException ex = assertThrows(
+            IllegalStateException.class,
+            () -> task.run(runContext)
+        );
+
+        assertThat(ex.getMessage(), containsString("1 error(s)"));
+    }
+
+    @Test
+    void testOutputToFiles() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue(host()))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .outputToFiles(Property.ofValue(true))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "DEL files_list_cli",
+                        "RPUSH files_list_cli a b c",
+                        "LRANGE files_list_cli 0 -1"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getOutputFiles(), hasKey("command_3.out"));
+        assertThat(output.getVars().get("command_3"), is(Map.of("size", 6L, "lines", 3L)));
+    }
+
+    @Test
+    void testNativeOutputToFiles() throws Exception {
+        RedisCLI task = RedisCLI.builder()
+            .id(IdUtils.create())
+            .type(RedisCLI.class.getName())
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue(port()))
+            .password(Property.ofValue("redis"))
+            .executionMode(Property.ofValue(ExecutionMode.NATIVE))
+            .outputToFiles(Property.ofValue(true))
+            .commands(
+                Property.ofValue(
+                    List.of(
+                        "DEL native_files_list_cli",
+                        "RPUSH native_files_list_cli a b c",
+                        "LRANGE native_files_list_cli 0 -1"
+                    )
+                )
+            )
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getOutputFiles(), hasKey("command_3.out"));
+        assertThat(output.getVars().get("command_3"), is(Map.of("size", 6L, "lines", 3L)));
+
+        try (var inputStream = runContext.storage().getFile(output.getOutputFiles().get("command_3.out"))) {
+            assertThat(new String(inputStream.readAllBytes()), is("a\nb\nc\n"));
+        }
+    }
+
+    private URI createIonFile(List<Object> rows) throws Exception {
+        File tempFile = File.createTempFile("redis-cli-pipe", ".ion");
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (Object row : rows) {
+                FileSerde.write(output, row);
+            }
+        }
+
+        return storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+    }
 }
@@ -0,0 +1,51 @@
+package io.kestra.plugin.redis.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class RespEncoderTest {
+    @Test
+    void encodesCommandsAsArraysOfBulkStrings() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        RespEncoder encoder = new RespEncoder(output);
+
+        encoder.write(List.of("SET", "key", "Hello World"));
+        encoder.write(List.of("INCRBY", "counter", "10"));
+
+        assertThat(
+            output.toString(StandardCharsets.UTF_8),
+            is("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$11\r\nHello World\r\n*3\r\n$6\r\nINCRBY\r\n$7\r\ncounter\r\n$2\r\n10\r\n")
+        );
+        assertThat(encoder.getCount(), is(2L));
+    }
+
+    @Test
+    void usesUtf8ByteLengths() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new RespEncoder(output).write(List.of("SET", "k", "été"));
+
+        assertThat(output.toString(StandardCharsets.UTF_8), endsWith("$5\r\nété\r\n"));
+    }
+
+    @Test
+    void encodesEmptyAndLargeArguments() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String large = "x".repeat(5000);
+        new RespEncoder(output).write(List.of("SET", "", large));
+
+        assertThat(output.toString(StandardCharsets.UTF_8), is("*3\r\n$3\r\nSET\r\n$0\r\n\r\n$5000\r\n" + large + "\r\n"));
+    }
+
+    @Test
+    void splitsCsvLines() {
+        assertThat(RedisCLI.splitCsvLine("SET,key,value"), contains("SET", "key", "value"));
+        assertThat(RedisCLI.splitCsvLine("SET,key,\"a, \"\"quoted\"\" value\""), contains("SET", "key", "a, \"quoted\" value"));
+        assertThat(RedisCLI.splitCsvLine("SET,key,"), contains("SET", "key", ""));
+    }
+}
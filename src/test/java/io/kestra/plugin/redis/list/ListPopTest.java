@@ -1,6 +1,10 @@
 package io.kestra.plugin.redis.list;
 
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +15,7 @@ import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.plugin.redis.models.SerdeType;
 import io.kestra.plugin.redis.string.Delete;
 
@@ -18,6 +23,7 @@ import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -71,6 +77,70 @@ class ListPopTest {
         assertThat(runOutput.getCount(), is(1));
     }
 
+    @Test
+    void testListPopMultipleKeys() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPop task = ListPop.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .keys(Property.ofValue(List.of("mypopshard:1", "mypopshard:2")))
+            .keyOrder(Property.ofValue(KeyOrder.ROUND_ROBIN))
+            .count(Property.ofValue(1))
+            .maxRecords(Property.ofValue(4))
+            .build();
+
+        ListPop.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getCount(), is(4));
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(runOutput.getUri()), FileSerde.BUFFER_SIZE)) {
+            FileSerde.read(is, records::add);
+        }
+        assertThat(records, contains(
+            Map.of("key", "mypopshard:1", "value", "a1"),
+            Map.of("key", "mypopshard:2", "value", "b1"),
+            Map.of("key", "mypopshard:1", "value", "a2"),
+            Map.of("key", "mypopshard:2", "value", "b2")
+        ));
+    }
+
+    @Test
+    void testListPopKeyPatternPriority() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPop task = ListPop.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .keyPattern(Property.ofValue("mypopshard:*"))
+            .count(Property.ofValue(10))
+            .maxRecords(Property.ofValue(10))
+            .build();
+
+        ListPop.Output runOutput = task.run(runContext);
+        assertThat(runOutput.getCount(), is(5));
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(runOutput.getUri()), FileSerde.BUFFER_SIZE)) {
+            FileSerde.read(is, records::add);
+        }
+        // the first matching key is drained before the second one
+        assertThat(((Map<?, ?>) records.get(2)).get("key"), is("mypopshard:1"));
+        assertThat(((Map<?, ?>) records.get(3)).get("key"), is("mypopshard:2"));
+    }
+
+    @Test
+    void testListPopRequiresOneKeySource() {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPop task = ListPop.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mypopkey"))
+            .keyPattern(Property.ofValue("mypopshard:*"))
+            .maxRecords(Property.ofValue(1))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         RunContext runContext = runContextFactory.of(Map.of());
@@ -82,6 +152,21 @@ class ListPopTest {
             .url(Property.ofValue(REDIS_URI))
             .keys(Property.ofValue(Arrays.asList("mypopkeyjson")))
             .build().run(runContext);
+        Delete.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .keys(Property.ofValue(Arrays.asList("mypopshard:1", "mypopshard:2")))
+            .build().run(runContext);
+        // LPUSH reverses the values, the shards read a1, a2, a3 and b1, b2 from the head
+        ListPush.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mypopshard:1"))
+            .from(Arrays.asList("a3", "a2", "a1"))
+            .build().run(runContext);
+        ListPush.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mypopshard:2"))
+            .from(Arrays.asList("b2", "b1"))
+            .build().run(runContext);
         ListPush.builder()
             .url(Property.ofValue(REDIS_URI))
             .key(Property.ofValue("mypopkey"))
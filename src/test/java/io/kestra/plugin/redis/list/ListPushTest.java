@@ -169,6 +169,73 @@ class ListPushTest {
         assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
     }
 
+    @Test
+    void testListPushRightIsFifoWithLeftPop() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPush.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mykey"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .from(Arrays.asList("first", "second", "third"))
+            .build()
+            .run(runContext);
+
+        ListPop.Output popped = ListPop.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mykey"))
+            .count(Property.ofValue(1))
+            .maxRecords(Property.ofValue(1))
+            .build()
+            .run(runContext);
+        assertThat(popped.getCount(), is(1));
+
+        List<Object> result = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(popped.getUri()), FileSerde.BUFFER_SIZE)) {
+            FileSerde.read(is, result::add);
+        }
+        assertThat(result, is(List.of("first")));
+    }
+
+    @Test
+    void testListPushCapped() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        URI uri = createTestFile(250);
+
+        ListPush task = ListPush.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("batchKey"))
+            .from(uri.toString())
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .batchSize(Property.ofValue(100))
+            .maxLength(Property.ofValue(50L))
+            .build();
+
+        assertThat(task.run(runContext).getCount(), is(250));
+
+        try (RedisClient client = RedisClient.create(REDIS_URI);
+             StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> cmd = connection.sync();
+            assertThat(cmd.llen("batchKey"), is(50L));
+            assertThat(cmd.lindex("batchKey", 0), is("200"));
+            assertThat(cmd.lindex("batchKey", -1), is("249"));
+        }
+    }
+
+    @Test
+    void testListPushOnlyIfExists() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPush task = ListPush.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue("mykey"))
+            .onlyIfExists(Property.ofValue(true))
+            .from(Arrays.asList("value1"))
+            .build();
+
+        assertThat(task.run(runContext).getCount(), is(0));
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         RunContext runContext = runContextFactory.of(Map.of());
@@ -0,0 +1,264 @@
+package io.kestra.plugin.redis.list;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.EmbeddedRedisServer;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.inject.Inject;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * High-volume list tests against {@link EmbeddedRedisServer}, so they run without a Redis container and with
+ * deterministic latency and failures.
+ */
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListThroughputTest {
+    private static final int VOLUME = 50_000;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private EmbeddedRedisServer server;
+
+    @BeforeAll
+    void startServer() throws Exception {
+        server = new EmbeddedRedisServer();
+    }
+
+    @AfterAll
+    void stopServer() throws Exception {
+        server.close();
+    }
+
+    @BeforeEach
+    void reset() {
+        server.flushAll();
+        server.latency(Duration.ZERO);
+    }
+
+    @Test
+    void pushThenPopKeepsOrderAndCount() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        List<String> values = IntStream.range(0, VOLUME).mapToObj(i -> "{\"id\":" + i + "}").toList();
+
+        ListPush.Output pushed = ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("throughput"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .from(values)
+            .build()
+            .run(runContext);
+
+        assertThat(pushed.getCount(), is(VOLUME));
+
+        ListPop.Output popped = ListPop.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("throughput"))
+            .serdeType(Property.ofValue(SerdeType.JSON))
+            .count(Property.ofValue(1_000))
+            .maxRecords(Property.ofValue(VOLUME))
+            .build()
+            .run(runContext);
+
+        assertThat(popped.getCount(), is(VOLUME));
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(popped.getUri()))) {
+            FileSerde.readAll(inputStream).toIterable().forEach(records::add);
+        }
+        assertThat(records.size(), is(VOLUME));
+        assertThat(records.getFirst(), is(Map.of("id", 0)));
+        assertThat(records.getLast(), is(Map.of("id", VOLUME - 1)));
+    }
+
+    @Test
+    void pushWithBatchesInFlightKeepsOrder() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        server.latency(Duration.ofMillis(2));
+        List<String> values = IntStream.range(0, VOLUME).mapToObj(Integer::toString).toList();
+
+        ListPush.Output pushed = ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("inflight"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .batchSize(Property.ofValue(100))
+            .concurrency(Property.ofValue(16))
+            .from(values)
+            .build()
+            .run(runContext);
+
+        assertThat(pushed.getCount(), is(VOLUME));
+
+        ListPop.Output popped = ListPop.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("inflight"))
+            .count(Property.ofValue(1_000))
+            .maxRecords(Property.ofValue(VOLUME))
+            .build()
+            .run(runContext);
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(popped.getUri()))) {
+            FileSerde.readAll(inputStream).toIterable().forEach(records::add);
+        }
+        assertThat(records, is(new ArrayList<Object>(values)));
+    }
+
+    @Test
+    void popRotatesOutputFiles() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("rotated"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .from(IntStream.range(0, 10_500).mapToObj(Integer::toString).toList())
+            .build()
+            .run(runContext);
+
+        ListPop.Output popped = ListPop.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("rotated"))
+            .count(Property.ofValue(300))
+            .maxRecords(Property.ofValue(VOLUME))
+            .maxRecordsPerFile(Property.ofValue(1_000))
+            .build()
+            .run(runContext);
+
+        assertThat(popped.getCount(), is(10_500));
+        assertThat(popped.getUris().size(), is(11));
+        assertThat(popped.getUri(), is(popped.getUris().getFirst()));
+
+        List<Object> records = new ArrayList<>();
+        for (URI uri : popped.getUris()) {
+            List<Object> file = new ArrayList<>();
+            try (InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(uri))) {
+                FileSerde.readAll(inputStream).toIterable().forEach(file::add);
+            }
+            assertThat(file.size(), lessThanOrEqualTo(1_000));
+            records.addAll(file);
+        }
+        assertThat(records, is(IntStream.range(0, 10_500).mapToObj(i -> (Object) Integer.toString(i)).toList()));
+    }
+
+    @Test
+    void popPushesBackWhatWasNotWritten() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        List<String> values = List.of("1", "2", "{not json", "4", "5", "6", "7", "8", "9", "10");
+
+        for (ListDirection direction : ListDirection.values()) {
+            String key = "pushback:" + direction;
+            ListPush.builder()
+                .url(Property.ofValue(server.url()))
+                .key(Property.ofValue(key))
+                .direction(Property.ofValue(ListDirection.RIGHT))
+                .from(values)
+                .build()
+                .run(runContext);
+
+            ListPop task = ListPop.builder()
+                .url(Property.ofValue(server.url()))
+                .key(Property.ofValue(key))
+                .direction(Property.ofValue(direction))
+                .serdeType(Property.ofValue(SerdeType.JSON))
+                .count(Property.ofValue(2))
+                .maxRecords(Property.ofValue(VOLUME))
+                .build();
+
+            assertThrows(Exception.class, () -> task.run(runContext));
+
+            // the batch holding the invalid value and the prefetched ones are back, in their original order
+            RedisClient client = RedisClient.create(server.url());
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                List<String> left = connection.sync().lrange(key, 0, -1);
+                assertThat(left, is(direction == ListDirection.LEFT ? values.subList(2, values.size()) : values.subList(0, 4)));
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void realtimeTriggerDrainsEveryValue() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        server.latency(Duration.ofMillis(1));
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("realtime")
+            .type(RealtimeTrigger.class.getName())
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("realtime"))
+            .direction(Property.ofValue(ListDirection.LEFT))
+            .batchSize(Property.ofValue(500))
+            .build();
+        ListPop task = ListPop.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("realtime"))
+            .build();
+
+        ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("realtime"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .from(IntStream.range(0, 10_000).mapToObj(Integer::toString).toList())
+            .build()
+            .run(runContext);
+
+        List<Object> received = Flux.from(trigger.publisher(task, runContext))
+            .subscribeOn(Schedulers.boundedElastic())
+            .take(10_000)
+            .collectList()
+            .block(Duration.ofMinutes(1));
+        trigger.kill();
+
+        assertThat(received.size(), is(10_000));
+        assertThat(received.getFirst(), is("0"));
+        assertThat(received.getLast(), is("9999"));
+    }
+
+    @Test
+    void surfacesInjectedFailures() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        server.failNext("RPUSH", 1, "OOM command not allowed when used memory > 'maxmemory'.");
+
+        ListPush task = ListPush.builder()
+            .url(Property.ofValue(server.url()))
+            .key(Property.ofValue("failing"))
+            .direction(Property.ofValue(ListDirection.RIGHT))
+            .from(List.of("value1", "value2"))
+            .build();
+
+        Exception exception = assertThrows(Exception.class, () -> task.run(runContext));
+        assertThat(exception.getMessage(), containsString("OOM"));
+
+        // the failure was consumed, the next run goes through
+        assertThat(task.run(runContext).getCount(), is(2));
+    }
+}
@@ -0,0 +1,420 @@
+package io.kestra.plugin.redis.list;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.redis.EmbeddedRedisServer;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.inject.Inject;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Soak test of {@link Trigger} and {@link RealtimeTrigger} under a sustained push rate, across stops, kills and restarts.
+ * <p>
+ * It only runs with {@code -Dredis.loadTest=true}, which the {@code loadTest} Gradle task sets, and is configured with:
+ * <ul>
+ *     <li>{@code redis.loadTest.rate}: values pushed per second, defaults to 2000;</li>
+ *     <li>{@code redis.loadTest.duration}: how long each trigger is driven, as an ISO-8601 duration, defaults to PT2M;</li>
+ *     <li>{@code redis.loadTest.url}: the Redis to run against, defaults to an {@link EmbeddedRedisServer};</li>
+ *     <li>{@code redis.loadTest.maxP99}: an optional end-to-end p99 latency budget, as an ISO-8601 duration;</li>
+ *     <li>{@code redis.loadTest.report}: where the JSON report is written, defaults to build/reports/load/list-triggers.json.</li>
+ * </ul>
+ * Every pushed value carries its sequence number and push time, so that the report has the end-to-end latency distribution,
+ * and the lost and duplicated values, next to the heap and thread count samples.
+ */
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "redis.loadTest", matches = "true")
+class ListTriggerLoadTest {
+    private static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    private final int rate = Integer.getInteger("redis.loadTest.rate", 2000);
+    private final Duration duration = Duration.parse(System.getProperty("redis.loadTest.duration", "PT2M"));
+    private final Optional<Duration> maxP99 = Optional.ofNullable(System.getProperty("redis.loadTest.maxP99")).map(Duration::parse);
+    private final Path reportPath = Path.of(System.getProperty("redis.loadTest.report", "build/reports/load/list-triggers.json"));
+    private final Map<String, Object> report = new LinkedHashMap<>();
+    // the producer, the consumer and the stopper block, so they must not share the common pool
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private EmbeddedRedisServer server;
+    private String url;
+    private RedisClient client;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        url = System.getProperty("redis.loadTest.url");
+        if (url == null) {
+            server = new EmbeddedRedisServer();
+            url = server.url();
+        }
+        client = RedisClient.create(url);
+
+        report.put("startedAt", Instant.now().toString());
+        report.put("url", server == null ? url : "embedded");
+        report.put("rate", rate);
+        report.put("duration", duration.toString());
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        client.shutdown();
+        if (server != null) {
+            server.close();
+        }
+
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        JacksonMapper.ofJson().writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+    }
+
+    @Test
+    void pollingTrigger() throws Exception {
+        String key = "load:polling";
+        Run run = new Run(key);
+
+        // a fresh trigger instance for each half of the run, as after a scheduler restart
+        CompletableFuture<Void> consumer = CompletableFuture.runAsync(() -> {
+            while (run.consuming()) {
+                Trigger trigger = Trigger.builder()
+                    .id("load-polling")
+                    .type(Trigger.class.getName())
+                    .url(Property.ofValue(url))
+                    .key(Property.ofValue(key))
+                    .count(Property.ofValue(500))
+                    .maxRecords(Property.ofValue(Math.max(1, rate)))
+                    .maxDuration(Property.ofValue(Duration.ofSeconds(1)))
+                    .build();
+
+                for (Instant restartAt = Instant.now().plus(duration.dividedBy(2)); run.consuming() && Instant.now().isBefore(restartAt); ) {
+                    try {
+                        Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+                        Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+                        if (execution.isPresent()) {
+                            URI uri = URI.create(String.valueOf(execution.get().getTrigger().getVariables().get("uri")));
+                            try (InputStream inputStream = new BufferedInputStream(storageInterface.get(MAIN_TENANT, null, uri), FileSerde.BUFFER_SIZE)) {
+                                FileSerde.readAll(inputStream).toIterable().forEach(value -> run.received((String) value));
+                            }
+                        } else {
+                            sleep(Duration.ofMillis(100));
+                        }
+                    } catch (Exception e) {
+                        run.failed(e);
+                    }
+                }
+            }
+        }, executor);
+
+        Map<String, Object> result = run.drive(consumer);
+        report.put("pollingTrigger", result);
+
+        assertResult(run, result);
+    }
+
+    @Test
+    void realtimeTrigger() throws Exception {
+        String key = "load:realtime";
+        Run run = new Run(key);
+
+        // the first instance is stopped after a third of the run, the second killed after two thirds, the last one stopped at the end
+        CompletableFuture<Void> consumer = CompletableFuture.runAsync(() -> {
+            int generation = 0;
+            while (run.consuming()) {
+                RealtimeTrigger trigger = RealtimeTrigger.builder()
+                    .id("load-realtime")
+                    .type(RealtimeTrigger.class.getName())
+                    .url(Property.ofValue(url))
+                    .key(Property.ofValue(key))
+                    .batchSize(Property.ofValue(100))
+                    .build();
+                ListPop task = ListPop.builder()
+                    .url(Property.ofValue(url))
+                    .key(Property.ofValue(key))
+                    .build();
+
+                boolean kill = generation++ % 2 == 1;
+                Instant stopAt = Instant.now().plus(duration.dividedBy(3));
+                try {
+                    Map.Entry<ConditionContext, io.kestra.core.models.triggers.Trigger> context = TestsUtils.mockTrigger(runContextFactory, trigger);
+                    CompletableFuture<Void> stopper = CompletableFuture.runAsync(() -> {
+                        while (run.consuming() && Instant.now().isBefore(stopAt)) {
+                            sleep(Duration.ofMillis(10));
+                        }
+                        if (kill) {
+                            trigger.kill();
+                        } else {
+                            trigger.stop();
+                        }
+                    }, executor);
+
+                    Flux.from(trigger.publisher(task, context.getKey().getRunContext()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doOnNext(value -> run.received((String) value))
+                        .blockLast();
+                    stopper.join();
+                } catch (Exception e) {
+                    run.failed(e);
+                }
+            }
+        }, executor);
+
+        Map<String, Object> result = run.drive(consumer);
+        report.put("realtimeTrigger", result);
+
+        assertResult(run, result);
+    }
+
+    private void assertResult(Run run, Map<String, Object> result) {
+        if (!run.failures.isEmpty()) {
+            // the failures are attached with their stack trace to the test report
+            AssertionError error = new AssertionError(run.failures.size() + " consumer error(s), first: " + run.failures.getFirst());
+            run.failures.stream().limit(10).forEach(error::addSuppressed);
+            throw error;
+        }
+        assertThat(result.get("lost"), is(0L));
+        assertThat(result.get("duplicated"), is(0L));
+
+        maxP99.ifPresent(budget -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> latency = (Map<String, Object>) result.get("latencyMillis");
+            assertThat((Double) latency.get("p99"), lessThanOrEqualTo((double) budget.toMillis()));
+        });
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * One scenario: pushes at the configured rate while the consumer runs, then lets it drain and summarizes.
+     */
+    private class Run {
+        private final String key;
+        private final AtomicBoolean consuming = new AtomicBoolean(true);
+        private final AtomicLong pushed = new AtomicLong();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong duplicated = new AtomicLong();
+        private final List<Exception> failures = new CopyOnWriteArrayList<>();
+        private final BitSet seen = new BitSet();
+        private final Latencies latencies = new Latencies();
+
+        private Run(String key) {
+            this.key = key;
+        }
+
+        private boolean consuming() {
+            return consuming.get();
+        }
+
+        private void received(String value) {
+            long receivedAt = System.nanoTime();
+            int separator = value.indexOf('|');
+            int sequence = Integer.parseInt(value.substring(0, separator));
+            long pushedAt = Long.parseLong(value.substring(separator + 1));
+
+            received.incrementAndGet();
+            synchronized (this) {
+                if (seen.get(sequence)) {
+                    duplicated.incrementAndGet();
+                    return;
+                }
+                seen.set(sequence);
+                latencies.add(receivedAt - pushedAt);
+            }
+        }
+
+        private void failed(Exception e) {
+            failures.add(e);
+        }
+
+        private Map<String, Object> drive(CompletableFuture<Void> consumer) throws Exception {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+            System.gc();
+            long heapStart = memory.getHeapMemoryUsage().getUsed();
+            long heapPeak = heapStart;
+            int threadsStart = threads.getThreadCount();
+            int threadsPeak = threadsStart;
+            List<Map<String, Object>> samples = new ArrayList<>();
+
+            Instant startedAt = Instant.now();
+            CompletableFuture<Void> producer = CompletableFuture.runAsync(this::produce, executor);
+
+            // the producer stops after the configured duration, the consumer when everything was received or the drain timed out
+            Instant drainUntil = null;
+            while (!consumer.isDone()) {
+                sleep(SAMPLE_INTERVAL);
+
+                long heap = memory.getHeapMemoryUsage().getUsed();
+                int threadCount = threads.getThreadCount();
+                heapPeak = Math.max(heapPeak, heap);
+                threadsPeak = Math.max(threadsPeak, threadCount);
+                samples.add(Map.of(
+                    "elapsedSeconds", Duration.between(startedAt, Instant.now()).toSeconds(),
+                    "pushed", pushed.get(),
+                    "received", received.get(),
+                    "heapBytes", heap,
+                    "threads", threadCount
+                ));
+
+                if (producer.isDone() && drainUntil == null) {
+                    drainUntil = Instant.now().plus(DRAIN_TIMEOUT);
+                }
+                if (drainUntil != null && (unique() >= pushed.get() || Instant.now().isAfter(drainUntil))) {
+                    consuming.set(false);
+                }
+            }
+            producer.join();
+            consumer.join();
+            Duration elapsed = Duration.between(startedAt, Instant.now());
+
+            long leftInList;
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                leftInList = connection.sync().llen(key);
+                connection.sync().del(key);
+            }
+
+            System.gc();
+            long heapEnd = memory.getHeapMemoryUsage().getUsed();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+            result.put("pushed", pushed.get());
+            result.put("received", received.get());
+            result.put("unique", unique());
+            result.put("duplicated", duplicated.get());
+            result.put("lost", pushed.get() - unique() - leftInList);
+            result.put("leftInList", leftInList);
+            result.put("errors", (long) failures.size());
+            result.put("failures", failures.stream().limit(10).map(String::valueOf).toList());
+            result.put("throughputPerSecond", unique() / Math.max(0.001, elapsed.toMillis() / 1000.0));
+            result.put("latencyMillis", latencies.summary());
+            result.put("heap", Map.of("startBytes", heapStart, "peakBytes", heapPeak, "endBytes", heapEnd, "growthBytes", heapEnd - heapStart));
+            result.put("threads", Map.of("start", threadsStart, "peak", threadsPeak, "end", threads.getThreadCount()));
+            result.put("samples", samples);
+            return result;
+        }
+
+        private synchronized long unique() {
+            return seen.cardinality();
+        }
+
+        private void produce() {
+            long intervalNanos = 1_000_000_000L / Math.max(1, rate);
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            int sequence = 0;
+
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                while (System.nanoTime() < end) {
+                    // push every value that is due, in one variadic RPUSH
+                    long due = Math.min((System.nanoTime() - start) / intervalNanos + 1, (end - start) / intervalNanos);
+                    if (due > sequence) {
+                        String[] values = new String[(int) (due - sequence)];
+                        long now = System.nanoTime();
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = (sequence + i) + "|" + now;
+                        }
+                        connection.sync().rpush(key, values);
+                        sequence += values.length;
+                        pushed.set(sequence);
+                    }
+                    sleep(Duration.ofMillis(1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Nanosecond latencies, summarized in milliseconds.
+     */
+    private static class Latencies {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private Map<String, Object> summary() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", size);
+            summary.put("min", millis(sorted, 0));
+            summary.put("p50", millis(sorted, 0.5));
+            summary.put("p90", millis(sorted, 0.9));
+            summary.put("p99", millis(sorted, 0.99));
+            summary.put("p999", millis(sorted, 0.999));
+            summary.put("max", millis(sorted, 1));
+            return summary;
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
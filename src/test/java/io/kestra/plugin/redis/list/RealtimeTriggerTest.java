@@ -1,15 +1,27 @@
 package io.kestra.plugin.redis.list;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.TestsUtils;
 
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import static io.kestra.core.utils.Rethrow.throwRunnable;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,4 +57,76 @@ class RealtimeTriggerTest extends AbstractTriggerTest {
             assertThat(executionList.stream().filter(execution -> execution.getTrigger().getVariables().get("value").equals("value2")).count(), greaterThanOrEqualTo(2L));
         }));
     }
+
+    @Test
+    void popsOnlyWhatIsRequested() throws Exception {
+        String key = getKey() + "_demand";
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("demand")
+            .type(RealtimeTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(key))
+            .batchSize(Property.ofValue(100))
+            .maxIdleBackoff(Property.ofValue(Duration.ofMillis(20)))
+            .build();
+        ListPop task = ListPop.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(key))
+            .build();
+
+        List<Object> received = new CopyOnWriteArrayList<>();
+        BaseSubscriber<Object> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                subscription.request(5);
+            }
+
+            @Override
+            protected void hookOnNext(Object value) {
+                received.add(value);
+            }
+        };
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().del(key);
+            connection.sync().rpush(key, IntStream.range(0, 50).mapToObj(Integer::toString).toArray(String[]::new));
+
+            Flux.from(trigger.publisher(task, runContext))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(subscriber);
+
+            // a batch is cut to the 5 requested elements, the others stay in the list
+            waitFor(() -> received.size() == 5);
+            Thread.sleep(200);
+            assertThat(received.size(), is(5));
+            assertThat(connection.sync().llen(key), is(45L));
+
+            subscriber.request(45);
+            waitFor(() -> received.size() == 50);
+            assertThat(connection.sync().llen(key), is(0L));
+
+            // the idle backoff stays short enough to pick up a late element
+            Thread.sleep(200);
+            connection.sync().rpush(key, "late");
+            subscriber.request(1);
+            waitFor(() -> received.size() == 51);
+            assertThat(received.subList(0, 5), is(List.<Object>of("0", "1", "2", "3", "4")));
+            assertThat(received.getLast(), is("late"));
+        } finally {
+            trigger.kill();
+            subscriber.dispose();
+            client.shutdown();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat("timed out", System.nanoTime() < deadline, is(true));
+            Thread.sleep(10);
+        }
+    }
 }
@@ -0,0 +1,227 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.inject.Inject;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeyspaceTriggerTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void keyEventsWithValues() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        KeyspaceTrigger trigger = KeyspaceTrigger.builder()
+            .id("watch")
+            .type(KeyspaceTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .keyPattern(Property.ofValue("keyspace:*"))
+            .events(Property.ofValue(List.of("set", "del")))
+            .configureNotifications(Property.ofValue(true))
+            .fetchValue(Property.ofValue(true))
+            .serdeType(Property.ofValue(SerdeType.JSON))
+            .build();
+
+        var collected = Flux.from(trigger.publisher(runContext))
+            .subscribeOn(Schedulers.boundedElastic())
+            .take(2)
+            .collectList()
+            .toFuture();
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> commands = connection.sync();
+
+            // the subscription starts asynchronously, repeat the change until it is seen
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (connection.sync().pubsubNumpat() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            commands.set("keyspace:a", "{\"v\":1}");
+            commands.set("other:a", "ignored");
+            commands.del("keyspace:a");
+        } finally {
+            client.shutdown();
+        }
+
+        List<KeyspaceTrigger.Output> outputs = collected.get();
+        trigger.kill();
+
+        assertThat(outputs.get(0).getKey(), is("keyspace:a"));
+        assertThat(outputs.get(0).getEvent(), is("set"));
+        assertThat(outputs.get(1).getEvent(), is("del"));
+        assertThat(outputs.get(1).getValue(), nullValue());
+    }
+
+    @Test
+    void valuesFromTheWatchedDatabase() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        KeyspaceTrigger trigger = KeyspaceTrigger.builder()
+            .id("watch")
+            .type(KeyspaceTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .database(Property.ofValue(3))
+            .events(Property.ofValue(List.of("set")))
+            .configureNotifications(Property.ofValue(true))
+            .fetchValue(Property.ofValue(true))
+            .build();
+
+        var collected = Flux.from(trigger.publisher(runContext))
+            .subscribeOn(Schedulers.boundedElastic())
+            .next()
+            .toFuture();
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (connection.sync().pubsubNumsub("__keyevent@3__:set").get("__keyevent@3__:set") == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            // the same key in the URL's database must not be the one read
+            connection.sync().set("keyspace:db", "db0");
+            connection.sync().select(3);
+            connection.sync().set("keyspace:db", "db3");
+        } finally {
+            client.shutdown();
+        }
+
+        KeyspaceTrigger.Output output = collected.get();
+        trigger.kill();
+
+        assertThat(output.getKey(), is("keyspace:db"));
+        assertThat(output.getValue(), is("db3"));
+    }
+
+    @Test
+    void slowSubscriberKeepsNewestNotifications() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        KeyspaceTrigger trigger = KeyspaceTrigger.builder()
+            .id("watch")
+            .type(KeyspaceTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .events(Property.ofValue(List.of("incrby")))
+            .configureNotifications(Property.ofValue(true))
+            .bufferSize(Property.ofValue(2))
+            .overflowPolicy(Property.ofValue(OverflowPolicy.DROP_OLDEST))
+            .build();
+
+        List<KeyspaceTrigger.Output> received = new CopyOnWriteArrayList<>();
+        BaseSubscriber<KeyspaceTrigger.Output> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(KeyspaceTrigger.Output output) {
+                received.add(output);
+            }
+        };
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            Flux.from(trigger.publisher(runContext)).subscribeOn(Schedulers.boundedElastic()).subscribe(subscriber);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (connection.sync().pubsubNumsub("__keyevent@0__:incrby").get("__keyevent@0__:incrby") == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            connection.sync().incrby("keyspace:slow:0", 1);
+            while (received.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // nothing is requested: the burst stays in the bounded buffer, which keeps the newest notifications
+            for (int i = 1; i < 10; i++) {
+                connection.sync().incrby("keyspace:slow:" + i, 1);
+            }
+            Thread.sleep(200);
+            assertThat(received.size(), is(1));
+
+            subscriber.request(2);
+            while (received.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(received.stream().map(KeyspaceTrigger.Output::getKey).toList(), is(List.of("keyspace:slow:0", "keyspace:slow:8", "keyspace:slow:9")));
+        } finally {
+            trigger.kill();
+            subscriber.dispose();
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void batches() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        KeyspaceTrigger trigger = KeyspaceTrigger.builder()
+            .id("watch")
+            .type(KeyspaceTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .events(Property.ofValue(List.of("lpush")))
+            .configureNotifications(Property.ofValue(true))
+            .batchSize(Property.ofValue(3))
+            .build();
+
+        var collected = Flux.from(trigger.publisher(runContext))
+            .subscribeOn(Schedulers.boundedElastic())
+            .next()
+            .toFuture();
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (connection.sync().pubsubNumsub("__keyevent@0__:lpush").get("__keyevent@0__:lpush") == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            for (int i = 0; i < 3; i++) {
+                connection.sync().lpush("keyspace:list", "v" + i);
+            }
+        } finally {
+            client.shutdown();
+        }
+
+        KeyspaceTrigger.Output output = collected.get();
+        trigger.kill();
+
+        assertThat(output.getCount(), is(3));
+        assertThat(output.getEvents().getFirst(), is(Map.of("key", "keyspace:list", "event", "lpush")));
+    }
+
+    @Test
+    void flags() {
+        assertThat(KeyspaceEvents.toConfig(KeyspaceEvents.requiredFlags(List.of("set", "expired"), true)), is("K$x"));
+        assertThat(KeyspaceEvents.toConfig(KeyspaceEvents.requiredFlags(List.of("DEL"), false)), is("Eg"));
+        assertThat(KeyspaceEvents.configuredFlags("AKE").containsAll(KeyspaceEvents.requiredFlags(List.of("xadd", "evicted"), true)), is(true));
+        assertThat(KeyspaceEvents.configuredFlags("Ex").contains('$'), is(false));
+        assertThrows(IllegalArgumentException.class, () -> KeyspaceEvents.requiredFlags(List.of("touched"), true));
+    }
+}
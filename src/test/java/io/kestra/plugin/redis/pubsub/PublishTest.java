@@ -8,6 +8,10 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +25,12 @@ import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.redis.EmbeddedRedisServer;
 import io.kestra.plugin.redis.string.Delete;
 
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -71,6 +79,45 @@ class PublishTest {
         assertThat(runOutput.getCount(), is(5));
     }
 
+    @Test
+    void testPublishThroughputToEmbeddedServer() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        int volume = 20_000;
+
+        try (EmbeddedRedisServer server = new EmbeddedRedisServer()) {
+            RedisClient client = RedisClient.create(server.url());
+            CountDownLatch received = new CountDownLatch(volume);
+            AtomicInteger outOfOrder = new AtomicInteger();
+            AtomicInteger last = new AtomicInteger(-1);
+
+            try (StatefulRedisPubSubConnection<String, String> subscriber = client.connectPubSub()) {
+                subscriber.addListener(new RedisPubSubAdapter<>() {
+                    @Override
+                    public void message(String channel, String message) {
+                        if (Integer.parseInt(message) != last.incrementAndGet()) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        received.countDown();
+                    }
+                });
+                subscriber.sync().subscribe("throughput");
+
+                Publish.Output runOutput = Publish.builder()
+                    .url(Property.ofValue(server.url()))
+                    .channel(Property.ofValue("throughput"))
+                    .from(IntStream.range(0, volume).mapToObj(Integer::toString).toList())
+                    .build()
+                    .run(runContext);
+
+                assertThat(runOutput.getCount(), is(volume));
+                assertThat(received.await(1, TimeUnit.MINUTES), is(true));
+                assertThat(outOfOrder.get(), is(0));
+            } finally {
+                client.shutdown();
+            }
+        }
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         RunContext runContext = runContextFactory.of(Map.of());
@@ -0,0 +1,177 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.inject.Inject;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RealtimeTriggerTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void patternSubscription() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("watch")
+            .type(RealtimeTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .channels(Property.ofValue(List.of("rt.orders.*")))
+            .subscriptionType(Property.ofValue(SubscriptionType.PATTERN))
+            .serdeType(Property.ofValue(SerdeType.JSON))
+            .build();
+
+        // Flux.create runs the subscription loop on the subscribing thread
+        Flux<RealtimeTrigger.Output> outputs = Flux.from(trigger.publisher(runContext)).subscribeOn(Schedulers.boundedElastic());
+        var collected = outputs.take(2).collectList().toFuture();
+
+        publishUntilSubscribed("rt.orders.eu", "{\"id\":1}");
+        publish("rt.orders.us", "{\"id\":2}");
+
+        List<RealtimeTrigger.Output> received = collected.get();
+        trigger.kill();
+
+        assertThat(received.get(0).getChannel(), is("rt.orders.eu"));
+        assertThat(received.get(0).getPattern(), is("rt.orders.*"));
+        assertThat(received.get(1).getValue(), is(Map.of("id", 2)));
+        assertThat(received.get(1).getReceivedCount(), is(2L));
+        assertThat(received.get(1).getDroppedCount(), is(0L));
+    }
+
+    @Test
+    void slowSubscriberDropsOldest() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        RealtimeTrigger trigger = RealtimeTrigger.builder()
+            .id("watch")
+            .type(RealtimeTrigger.class.getName())
+            .url(Property.ofValue(REDIS_URI))
+            .channels(Property.ofValue(List.of("rt.slow")))
+            .bufferSize(Property.ofValue(2))
+            .overflowPolicy(Property.ofValue(OverflowPolicy.DROP_OLDEST))
+            .build();
+
+        List<RealtimeTrigger.Output> received = new CopyOnWriteArrayList<>();
+        BaseSubscriber<RealtimeTrigger.Output> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(RealtimeTrigger.Output output) {
+                received.add(output);
+            }
+        };
+
+        try {
+            Flux.from(trigger.publisher(runContext)).subscribeOn(Schedulers.boundedElastic()).subscribe(subscriber);
+
+            publishUntilSubscribed("rt.slow", "m0");
+            waitFor(() -> received.size() == 1);
+
+            // nothing is requested: the burst stays in the bounded buffer, which keeps the newest messages
+            for (int i = 1; i < 10; i++) {
+                publish("rt.slow", "m" + i);
+            }
+            Thread.sleep(200);
+            assertThat(received.size(), is(1));
+
+            subscriber.request(2);
+            waitFor(() -> received.size() == 3);
+            assertThat(received.get(1).getValue(), is("m8"));
+            assertThat(received.get(2).getValue(), is("m9"));
+            assertThat(received.get(2).getDroppedCount(), is(7L));
+        } finally {
+            trigger.kill();
+            subscriber.dispose();
+        }
+    }
+
+    @Test
+    void dropOldest() throws Exception {
+        try (Subscription subscription = new Subscription(REDIS_URI, false, SubscriptionType.CHANNEL, List.of("rt.drop"), 2, OverflowPolicy.DROP_OLDEST)) {
+            subscription.start();
+            for (int i = 0; i < 5; i++) {
+                publish("rt.drop", "m" + i);
+            }
+
+            waitForReceived(subscription, 5);
+            assertThat(subscription.dropped(), is(3L));
+            assertThat(subscription.poll(Duration.ofSeconds(1)).payload(), is("m3"));
+            assertThat(subscription.poll(Duration.ofSeconds(1)).payload(), is("m4"));
+        }
+    }
+
+    @Test
+    void fail() throws Exception {
+        try (Subscription subscription = new Subscription(REDIS_URI, false, SubscriptionType.CHANNEL, List.of("rt.fail"), 1, OverflowPolicy.FAIL)) {
+            subscription.start();
+            publish("rt.fail", "m0");
+            publish("rt.fail", "m1");
+
+            waitForReceived(subscription, 2);
+            assertThat(subscription.poll(Duration.ofSeconds(1)).payload(), is("m0"));
+            assertThrows(IllegalStateException.class, () -> subscription.poll(Duration.ofMillis(10)));
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean(), is(true));
+    }
+
+    private static void waitForReceived(Subscription subscription, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (subscription.received() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscription.received(), is(count));
+    }
+
+    private static long publish(String channel, String message) {
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            return connection.sync().publish(channel, message);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    // the subscription is set up on another thread, retry until somebody listens
+    private static void publishUntilSubscribed(String channel, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (publish(channel, message) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
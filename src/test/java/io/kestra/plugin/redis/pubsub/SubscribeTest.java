@@ -0,0 +1,106 @@
+package io.kestra.plugin.redis.pubsub;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import jakarta.inject.Inject;
+
+import static io.kestra.core.utils.Rethrow.throwSupplier;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SubscribeTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void maxRecords() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Subscribe task = Subscribe.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .channels(Property.ofValue(List.of("subscribe.records")))
+            .maxRecords(Property.ofValue(3))
+            .maxDuration(Property.ofValue(Duration.ofSeconds(30)))
+            .build();
+
+        CompletableFuture<Subscribe.Output> run = CompletableFuture.supplyAsync(throwSupplier(() -> task.run(runContext)));
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            int sent = 0;
+            while (sent < 5 && !run.isDone()) {
+                // only count messages somebody listened to, the subscription starts asynchronously
+                sent += (int) connection.sync().publish("subscribe.records", "value" + sent);
+                Thread.sleep(20);
+            }
+        } finally {
+            client.shutdown();
+        }
+
+        Subscribe.Output output = run.get();
+        assertThat(output.getCount(), is(3));
+        assertThat(output.getDropped(), is(0L));
+    }
+
+    @Test
+    void blockKeepsEveryMessageAndCommandsResponsive() throws Exception {
+        int volume = 2_000;
+
+        try (Subscription subscription = new Subscription(REDIS_URI, false, SubscriptionType.CHANNEL, List.of("subscribe.block"), 10, OverflowPolicy.BLOCK)) {
+            subscription.start();
+
+            RedisClient client = RedisClient.create(REDIS_URI);
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                for (int i = 0; i < volume; i++) {
+                    connection.async().publish("subscribe.block", Integer.toString(i));
+                }
+                connection.sync().ping();
+            } finally {
+                client.shutdown();
+            }
+
+            // the pub/sub socket is paused with a full buffer, the command connection still answers
+            assertThat(subscription.commands(0).sync().ping(), is("PONG"));
+
+            for (int i = 0; i < volume; i++) {
+                Subscription.Message message = subscription.poll(Duration.ofSeconds(10));
+                assertThat(message.payload(), is(Integer.toString(i)));
+            }
+            assertThat(subscription.dropped(), is(0L));
+        }
+    }
+
+    @Test
+    void maxDuration() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Subscribe task = Subscribe.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .channels(Property.ofValue(List.of("subscribe.quiet")))
+            .maxDuration(Property.ofValue(Duration.ofMillis(500)))
+            .build();
+
+        long start = System.currentTimeMillis();
+        Subscribe.Output output = task.run(runContext);
+
+        assertThat(output.getCount(), is(0));
+        assertThat(System.currentTimeMillis() - start < 10_000, is(true));
+    }
+}
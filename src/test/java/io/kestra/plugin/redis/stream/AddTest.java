@@ -0,0 +1,131 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AddTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+    private static final String KEY = "myaddstream";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> commands;
+
+    @BeforeEach
+    void setUp() {
+        client = RedisClient.create(REDIS_URI);
+        connection = client.connect();
+        commands = connection.sync();
+        commands.del(KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.close();
+        client.shutdown();
+    }
+
+    @Test
+    void inline() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Add task = Add.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .from(List.of(Map.of("user", "alice"), "plain"))
+            .build();
+
+        Add.Output output = task.run(runContext);
+        assertThat(output.getCount(), is(2));
+
+        List<StreamMessage<String, String>> messages = commands.xrange(KEY, Range.create("-", "+"));
+        assertThat(messages, hasSize(2));
+        assertThat(messages.get(0).getBody(), is(Map.of("user", "alice")));
+        assertThat(messages.get(1).getBody(), is(Map.of("value", "plain")));
+        assertThat(messages.get(1).getId(), is(output.getLastId()));
+    }
+
+    @Test
+    void fromFileWithTrimming() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (int i = 0; i < 1000; i++) {
+                FileSerde.write(output, Map.of("id", i, "tags", List.of("a", "b")));
+            }
+        }
+        URI uri = storageInterface.put(TenantService.MAIN_TENANT, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+        Add task = Add.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .from(uri.toString())
+            .serdeType(Property.ofValue(SerdeType.JSON))
+            .batchSize(Property.ofValue(64))
+            .maxLength(Property.ofValue(100L))
+            .approximateTrimming(Property.ofValue(false))
+            .build();
+
+        assertThat(task.run(runContext).getCount(), is(1000));
+        assertThat(commands.xlen(KEY), is(100L));
+
+        StreamMessage<String, String> last = commands.xrevrange(KEY, Range.create("-", "+")).getFirst();
+        assertThat(last.getBody().get("id"), is("999"));
+        assertThat(last.getBody().get("tags"), is("[\"a\",\"b\"]"));
+    }
+
+    @Test
+    void rejectsBothTrimStrategies() {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Add task = Add.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .from(List.of("a"))
+            .maxLength(Property.ofValue(10L))
+            .minId(Property.ofValue("0"))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+    }
+}
@@ -0,0 +1,172 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.redis.models.SerdeType;
+
+import io.lettuce.core.Consumer;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.XGroupCreateArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConsumeTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+    private static final String KEY = "mystreamkey";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> commands;
+
+    @BeforeEach
+    void setUp() {
+        client = RedisClient.create(REDIS_URI);
+        connection = client.connect();
+        commands = connection.sync();
+        commands.del(KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.close();
+        client.shutdown();
+    }
+
+    @Test
+    void consume() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Consume task = Consume.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .group(Property.ofValue("kestra"))
+            .groupStartId(Property.ofValue("0"))
+            .serdeType(Property.ofValue(SerdeType.JSON))
+            .count(Property.ofValue(2))
+            .blockDuration(Property.ofValue(Duration.ofMillis(100)))
+            .maxRecords(Property.ofValue(10))
+            .build();
+
+        // first run creates the stream and the group
+        assertThat(task.run(runContext).getCount(), is(0));
+
+        commands.xadd(KEY, Map.of("order", "{\"id\":1}"));
+        commands.xadd(KEY, Map.of("order", "{\"id\":2}"));
+        commands.xadd(KEY, Map.of("order", "{\"id\":3}"));
+
+        Consume.Output output = task.run(runContext);
+        assertThat(output.getCount(), is(3));
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(output.getUri()), FileSerde.BUFFER_SIZE)) {
+            FileSerde.read(is, records::add);
+        }
+        assertThat(records, hasSize(3));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> first = (Map<String, Object>) records.getFirst();
+        assertThat(first.get("key"), is(KEY));
+        assertThat(first.get("values"), is(Map.of("order", Map.of("id", 1))));
+
+        // everything was acknowledged
+        assertThat(commands.xpending(KEY, "kestra").getCount(), is(0L));
+        assertThat(task.run(runContext).getCount(), is(0));
+    }
+
+    @Test
+    void claimPending() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        commands.xgroupCreate(XReadArgs.StreamOffset.from(KEY, "0"), "claim", XGroupCreateArgs.Builder.mkstream());
+        commands.xadd(KEY, Map.of("value", "a"));
+        commands.xadd(KEY, Map.of("value", "b"));
+
+        // a consumer that reads and dies without acknowledging
+        commands.xreadgroup(Consumer.from("claim", "dead"), XReadArgs.StreamOffset.lastConsumed(KEY));
+        Thread.sleep(50);
+
+        Consume task = Consume.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .group(Property.ofValue("claim"))
+            .blockDuration(Property.ofValue(Duration.ofMillis(100)))
+            .maxRecords(Property.ofValue(10))
+            .claimMinIdleTime(Property.ofValue(Duration.ofMillis(10)))
+            .build();
+
+        Consume.Output output = task.run(runContext);
+        assertThat(output.getCount(), is(2));
+        assertThat(commands.xpending(KEY, "claim").getCount(), is(0L));
+    }
+
+    @Test
+    void claimDeletedPendingIsNotCounted() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        commands.xgroupCreate(XReadArgs.StreamOffset.from(KEY, "0"), "deleted", XGroupCreateArgs.Builder.mkstream());
+        String first = commands.xadd(KEY, Map.of("value", "a"));
+        commands.xadd(KEY, Map.of("value", "b"));
+
+        commands.xreadgroup(Consumer.from("deleted", "dead"), XReadArgs.StreamOffset.lastConsumed(KEY));
+        commands.xdel(KEY, first);
+        Thread.sleep(50);
+
+        Consume task = Consume.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .group(Property.ofValue("deleted"))
+            .blockDuration(Property.ofValue(Duration.ofMillis(100)))
+            .maxRecords(Property.ofValue(10))
+            .claimMinIdleTime(Property.ofValue(Duration.ofMillis(10)))
+            .build();
+
+        Consume.Output output = task.run(runContext);
+
+        List<Object> records = new ArrayList<>();
+        try (InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(output.getUri()))) {
+            FileSerde.readAll(inputStream).toIterable().forEach(records::add);
+        }
+        assertThat(output.getCount(), is(1));
+        assertThat(records.size(), is(1));
+        assertThat(commands.xpending(KEY, "deleted").getCount(), is(0L));
+    }
+
+    @Test
+    void requiresLimit() {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Consume task = Consume.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .group(Property.ofValue("kestra"))
+            .build();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+        assertThat(e.getMessage(), containsString("maxDuration or maxRecords"));
+    }
+}
@@ -0,0 +1,134 @@
+package io.kestra.plugin.redis.stream;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+    private static final String KEY = "myexportstream";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+
+    @BeforeEach
+    void setUp() {
+        client = RedisClient.create(REDIS_URI);
+        connection = client.connect();
+        RedisCommands<String, String> commands = connection.sync();
+        commands.del(KEY);
+
+        // 1000-1 .. 1000-250 then 2000-1 .. 2000-250
+        for (int ms : List.of(1000, 2000)) {
+            for (int seq = 1; seq <= 250; seq++) {
+                commands.xadd(KEY, new XAddArgs().id(ms + "-" + seq), Map.of("seq", String.valueOf(seq)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connection.close();
+        client.shutdown();
+    }
+
+    @Test
+    void exportAllPages() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Export.Output output = Export.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .pageSize(Property.ofValue(33))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCount(), is(500));
+        assertThat(output.getLastId(), is("2000-250"));
+
+        List<Object> records = read(runContext, output);
+        assertThat(records, hasSize(500));
+        assertThat(((Map<?, ?>) records.getFirst()).get("id"), is("1000-1"));
+        assertThat(((Map<?, ?>) records.getLast()).get("id"), is("2000-250"));
+    }
+
+    @Test
+    void exportTimestampRangeReversed() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Export.Output output = Export.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .start(Property.ofValue("1970-01-01T00:00:01.500Z"))
+            .end(Property.ofValue("1970-01-01T00:00:02Z"))
+            .reverse(Property.ofValue(true))
+            .pageSize(Property.ofValue(100))
+            .maxRecords(Property.ofValue(120))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCount(), is(120));
+        assertThat(output.getLastId(), is("2000-131"));
+    }
+
+    @Test
+    void exclusiveStart() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+
+        Export.Output output = Export.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(KEY))
+            .start(Property.ofValue("(2000-240"))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCount(), is(10));
+    }
+
+    @Test
+    void boundary() {
+        assertThat(Export.boundary("-"), is(Range.Boundary.unbounded()));
+        assertThat(Export.boundary("1000").getValue(), is("1000"));
+        assertThat(Export.boundary("1000-5").isIncluding(), is(true));
+        assertThat(Export.boundary("(1000-5").isIncluding(), is(false));
+        assertThat(Export.boundary("2024-01-01T00:00:00Z").getValue(), is("1704067200000"));
+        assertThrows(IllegalArgumentException.class, () -> Export.boundary("yesterday"));
+    }
+
+    private List<Object> read(RunContext runContext, Export.Output output) throws Exception {
+        List<Object> records = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(runContext.storage().getFile(output.getUri()), FileSerde.BUFFER_SIZE)) {
+            FileSerde.read(is, records::add);
+        }
+        return records;
+    }
+}
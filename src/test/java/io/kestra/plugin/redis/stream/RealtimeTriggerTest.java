@@ -0,0 +1,97 @@
+package io.kestra.plugin.redis.stream;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.LocalFlowRepositoryLoader;
+import io.kestra.core.utils.TestsUtils;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest(startRunner = true, startScheduler = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RealtimeTriggerTest {
+    private static final String REDIS_URI = "redis://:redis@localhost:6379/0";
+    private static final String KEY = "mytriggerstream_realtime";
+
+    @Inject
+    private LocalFlowRepositoryLoader repositoryLoader;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @BeforeAll
+    void setUp() {
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().del(KEY);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void flow() throws Exception {
+        CountDownLatch queueCount = new CountDownLatch(5);
+        Flux<Execution> receive = TestsUtils.receive(executionQueue, execution ->
+        {
+            assertThat(execution.getLeft().getFlowId(), is("stream-realtime"));
+            queueCount.countDown();
+        });
+
+        repositoryLoader.load(MAIN_TENANT, Objects.requireNonNull(RealtimeTriggerTest.class.getClassLoader().getResource("flows/stream-realtime.yaml")));
+
+        RedisClient client = RedisClient.create(REDIS_URI);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> commands = connection.sync();
+
+            // wait for the trigger to create the group, entries added before would be skipped by the "$" start ID
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (commands.exists(KEY) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+
+            for (int i = 0; i < 5; i++) {
+                commands.xadd(KEY, Map.of("value", "value" + i));
+            }
+
+            boolean await = queueCount.await(1, TimeUnit.MINUTES);
+            assertThat(await, is(true));
+
+            List<Execution> executionList = receive.collectList().block();
+            assertThat(executionList.size(), greaterThanOrEqualTo(5));
+            assertThat(executionList.stream().filter(execution -> ((Map<?, ?>) execution.getTrigger().getVariables().get("values")).get("value").equals("value4")).count(), is(1L));
+
+            // every emitted entry is eventually acknowledged
+            deadline = System.currentTimeMillis() + 10_000;
+            while (commands.xpending(KEY, "kestra").getCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(commands.xpending(KEY, "kestra").getCount(), is(0L));
+        } finally {
+            client.shutdown();
+        }
+    }
+}
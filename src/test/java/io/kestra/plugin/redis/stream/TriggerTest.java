@@ -0,0 +1,45 @@
+package io.kestra.plugin.redis.stream;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import io.kestra.core.junit.annotations.EvaluateTrigger;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TriggerTest {
+    @BeforeAll
+    void setUp() {
+        RedisClient client = RedisClient.create("redis://:redis@localhost:6379/0");
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            connection.sync().del("mytriggerstream");
+            connection.sync().xadd("mytriggerstream", Map.of("value", "value1"));
+            connection.sync().xadd("mytriggerstream", Map.of("value", "value2"));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    @EvaluateTrigger(flow = "flows/stream-trigger.yaml", triggerId = "watch")
+    void run(Optional<Execution> optionalExecution) {
+        assertThat(optionalExecution.isPresent(), is(true));
+        Execution execution = optionalExecution.get();
+
+        Integer count = (Integer) execution.getTrigger().getVariables().get("count");
+        assertThat(count, greaterThanOrEqualTo(2));
+    }
+}
@@ -1,5 +1,6 @@
 package io.kestra.plugin.redis.string;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
@@ -13,6 +14,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.redis.models.ReadFromType;
 import io.kestra.plugin.redis.models.SerdeType;
 
 import jakarta.inject.Inject;
@@ -42,6 +44,67 @@ class GetTest {
         assertThat(runOutput.getData(), is("value"));
     }
 
+    @Test
+    void testGetFromReplicaPreferred() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        String key = IdUtils.create();
+
+        createSetTask(key, "fresh").run(runContext);
+
+        // without replica, the read falls back on the primary once the (trivially satisfied) replication check passes
+        Get task = Get.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(key))
+            .readFrom(Property.ofValue(ReadFromType.REPLICA_PREFERRED))
+            .maxReplicationWait(Property.ofValue(Duration.ofSeconds(1)))
+            .build();
+
+        Get.Output runOutput = task.run(runContext);
+
+        assertThat(runOutput.getData(), is("fresh"));
+    }
+
+    @Test
+    void testGetNearCacheInvalidated() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        String key = IdUtils.create();
+
+        createSetTask(key, "before").run(runContext);
+
+        Get task = Get.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(key))
+            .nearCache(Property.ofValue(true))
+            .build();
+
+        assertThat(task.run(runContext).getData(), is("before"));
+        assertThat(task.run(runContext).getData(), is("before"));
+
+        createSetTask(key, "after").run(runContext);
+
+        // the invalidation is pushed asynchronously by the server
+        Object data = task.run(runContext).getData();
+        for (int i = 0; i < 50 && !"after".equals(data); i++) {
+            Thread.sleep(100);
+            data = task.run(runContext).getData();
+        }
+
+        assertThat(data, is("after"));
+    }
+
+    @Test
+    void testGetNearCacheRejectsReplicaReads() {
+        Get task = Get.builder()
+            .url(Property.ofValue(REDIS_URI))
+            .key(Property.ofValue(IdUtils.create()))
+            .nearCache(Property.ofValue(true))
+            .readFrom(Property.ofValue(ReadFromType.REPLICA_PREFERRED))
+            .build();
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of(Map.of())));
+        assertThat(exception.getMessage(), containsString("readFrom"));
+    }
+
     @Test
     void testMissingGet() throws Exception {
         RunContext runContext = runContextFactory.of(Map.of());